@@ -0,0 +1,56 @@
+package com.wordtrainer.benchmarks;
+
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.WordErrorCount;
+import com.wordtrainer.service.FailedWordCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FailedWordsBenchmark {
+
+    @Param({"50", "1000"})
+    private int sessions;
+
+    private List<TrainingSession> history;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        history = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            List<TrainingSession.Result> results = new ArrayList<>(20);
+            for (int j = 0; j < 20; j++) {
+                results.add(TrainingSession.Result.builder()
+                        .word("mot" + random.nextInt(300))
+                        .correct(random.nextInt(4) != 0)
+                        .build());
+            }
+            history.add(TrainingSession.builder().results(results).build());
+        }
+    }
+
+    @Benchmark
+    public List<WordErrorCount> topTen() {
+        return FailedWordCounter.topFailedWords(history, 10);
+    }
+}
@@ -0,0 +1,77 @@
+package com.wordtrainer.benchmarks;
+
+import com.wordtrainer.security.JwtPrincipal;
+import com.wordtrainer.security.JwtTokenProvider;
+import com.wordtrainer.security.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final int TOKENS = 4096;
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedProvider = provider(new VerifiedTokenCache(TOKENS * 2L));
+        uncachedProvider = provider(new VerifiedTokenCache(0));
+
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = cachedProvider.generateToken("user-" + i, "parent");
+            cachedProvider.parseAndVerify(tokens[i]);
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return cachedProvider.generateToken("65f1c0ffee00000000000001", "parent");
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> verifyUncached() {
+        return uncachedProvider.parseAndVerify(nextToken());
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> verifyCached() {
+        return cachedProvider.parseAndVerify(nextToken());
+    }
+
+    private String nextToken() {
+        next = (next + 1) & (TOKENS - 1);
+        return tokens[next];
+    }
+
+    private static JwtTokenProvider provider(VerifiedTokenCache cache) {
+        JwtTokenProvider provider = new JwtTokenProvider(cache);
+        ReflectionTestUtils.setField(provider, "jwtSecret", "benchmark-secret-long-enough-for-hs256-signatures-0123456789");
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(provider, "refreshExpiration", 604_800_000L);
+        provider.init();
+        return provider;
+    }
+}
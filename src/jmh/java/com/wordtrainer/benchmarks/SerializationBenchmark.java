@@ -0,0 +1,160 @@
+package com.wordtrainer.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.wordtrainer.dto.response.ApiResponse;
+import com.wordtrainer.dto.response.ChildResponse;
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.model.WordList;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"json", "json-blackbird", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private List<Child> children;
+    private List<TrainingSession> historyPage;
+    private WordList wordList;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (!format.equals("json")) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+
+        children = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            children.add(Child.builder()
+                    .id("65f1c0ffee0000000000000" + i)
+                    .parentId("65f1c0ffee00000000000100")
+                    .firstName("Enfant " + i)
+                    .username("enfant" + i)
+                    .stats(Child.Stats.builder()
+                            .totalTrainings(120)
+                            .totalWords(2400)
+                            .correctWords(2000)
+                            .streak(4)
+                            .lastTrainingDate(Instant.now())
+                            .build())
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .version(7L)
+                    .build());
+        }
+
+        // A GET /history page of 20 sessions with 20 results each, and a 500-word list
+        historyPage = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            List<TrainingSession.Result> results = new ArrayList<>();
+            for (int w = 0; w < 20; w++) {
+                boolean correct = w % 4 != 0;
+                results.add(TrainingSession.Result.builder()
+                        .word("mot" + w)
+                        .userAnswer(correct ? "mot" + w : "mo" + w)
+                        .correct(correct)
+                        .build());
+            }
+            historyPage.add(TrainingSession.builder()
+                    .id(String.format("65f1c0ffee%014d", i))
+                    .childId("65f1c0ffee00000000000000")
+                    .listId("65f1c0ffee00000000000200")
+                    .listName("Dictée de la semaine")
+                    .trainingType("dictee")
+                    .totalWords(20)
+                    .correctCount(15)
+                    .incorrectCount(5)
+                    .score(75)
+                    .durationSeconds(240)
+                    .results(results)
+                    .createdAt(Instant.now())
+                    .build());
+        }
+
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            words.add("élève" + i);
+        }
+        wordList = WordList.builder()
+                .id("65f1c0ffee00000000000200")
+                .childId("65f1c0ffee00000000000000")
+                .name("Vocabulaire du trimestre")
+                .words(words)
+                .wordsScheduled(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .version(3L)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] childrenResponse(PayloadSize size) throws Exception {
+        List<ChildResponse> responses = children.stream().map(ChildResponse::fromEntity).toList();
+        byte[] body = mapper.writeValueAsBytes(ApiResponse.success(responses));
+        size.bytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public byte[] historyPage(PayloadSize size) throws Exception {
+        byte[] body = mapper.writeValueAsBytes(ApiResponse.success(historyPage));
+        size.bytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public byte[] wordList(PayloadSize size) throws Exception {
+        byte[] body = mapper.writeValueAsBytes(ApiResponse.success(wordList));
+        size.bytes = body.length;
+        return body;
+    }
+}
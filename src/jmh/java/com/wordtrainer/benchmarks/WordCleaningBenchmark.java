@@ -0,0 +1,62 @@
+package com.wordtrainer.benchmarks;
+
+import com.wordtrainer.service.WordNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordCleaningBenchmark {
+
+    @Param({"20", "500", "5000"})
+    private int size;
+
+    private List<String> rawWords;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rawWords = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String word = "Mot" + random.nextInt(Math.max(1, size * 3 / 4));
+            rawWords.add(random.nextInt(10) == 0 ? "  " + word.toUpperCase() + " " : word);
+            if (random.nextInt(50) == 0) {
+                rawWords.add("   ");
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> normalizer() {
+        return WordNormalizer.clean(rawWords);
+    }
+
+    // The chained stream ListService used before WordNormalizer, kept as a baseline.
+    @Benchmark
+    public List<String> streamBaseline() {
+        return rawWords.stream()
+                .map(String::trim)
+                .map(String::toLowerCase)
+                .filter(w -> !w.isBlank())
+                .distinct()
+                .toList();
+    }
+}
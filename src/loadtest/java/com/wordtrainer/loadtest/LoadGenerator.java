@@ -0,0 +1,364 @@
+package com.wordtrainer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a school-day traffic mix against a running API and reports throughput and latency percentiles
+ * per endpoint. Meant to run against the {@code inmemory} profile so only the web, security and service
+ * layers are measured:
+ * <pre>
+ * java -jar target/word-trainer-api-1.0.0.jar --spring.profiles.active=inmemory
+ * ./mvnw -Ploadtest -DskipTests verify -Dloadtest.args="--users=200 --duration=60s"
+ * </pre>
+ * Options: {@code --base-url}, {@code --parents}, {@code --children-per-parent}, {@code --lists-per-child},
+ * {@code --users} (concurrent virtual users), {@code --rate} (total requests/s, 0 = closed loop),
+ * {@code --warmup}, {@code --duration}, {@code --output} (JSON report path).
+ */
+public final class LoadGenerator {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final int SETUP_PARALLELISM = 8;
+    private static final List<String> WORDS = List.of(
+            "maison", "école", "cahier", "crayon", "soleil", "jardin", "oiseau", "fenêtre", "bateau", "chapeau",
+            "lapin", "forêt", "hiver", "printemps", "poisson", "montagne", "cheval", "bonjour", "famille", "voiture");
+    private static final List<String> TRAINING_TYPES = List.of("flash", "dictation", "spelling");
+
+    /**
+     * Weighted mix of what children and parents do during a school day.
+     */
+    private enum Operation {
+        CHILD_LOGIN(2), LIST_LISTS(20), GET_LIST(15), NEXT_SESSION(15), SAVE_TRAINING(25), CHILD_STATS(10), DASHBOARD(10);
+
+        private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(op -> op.weight).sum();
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(ThreadLocalRandom random) {
+            int roll = random.nextInt(TOTAL_WEIGHT);
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return SAVE_TRAINING;
+        }
+    }
+
+    private record Options(String baseUrl, int parents, int childrenPerParent, int listsPerChild, int users, int rate,
+                           Duration warmup, Duration duration, Path output) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+                int equals = arg.indexOf('=');
+                if (equals > 0) {
+                    values.put(arg.substring(2, equals), arg.substring(equals + 1));
+                } else if (i + 1 < args.length) {
+                    values.put(arg.substring(2), args[++i]);
+                } else {
+                    throw new IllegalArgumentException("Missing value for " + arg);
+                }
+            }
+            return new Options(
+                    values.getOrDefault("base-url", "http://localhost:8080"),
+                    Integer.parseInt(values.getOrDefault("parents", "50")),
+                    Integer.parseInt(values.getOrDefault("children-per-parent", "2")),
+                    Integer.parseInt(values.getOrDefault("lists-per-child", "3")),
+                    Integer.parseInt(values.getOrDefault("users", "100")),
+                    Integer.parseInt(values.getOrDefault("rate", "0")),
+                    duration(values.getOrDefault("warmup", "10s")),
+                    duration(values.getOrDefault("duration", "30s")),
+                    values.containsKey("output") ? Path.of(values.get("output")) : null);
+        }
+
+        private static Duration duration(String value) {
+            return Duration.parse("PT" + value.toUpperCase());
+        }
+    }
+
+    private record Pupil(String id, String username, List<String> listIds, String parentToken) {
+    }
+
+    private static final class VirtualUser {
+
+        private final Pupil pupil;
+        private String token;
+
+        private VirtualUser(Pupil pupil, String token) {
+            this.pupil = pupil;
+            this.token = token;
+        }
+    }
+
+    private final Options options;
+    private final LoadTestClient client;
+
+    private LoadGenerator(Options options, LoadTestClient client) {
+        this.options = options;
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            new LoadGenerator(options, new LoadTestClient(options.baseUrl(), http)).run(executor);
+        }
+    }
+
+    private void run(ExecutorService executor) throws Exception {
+        long setupStart = System.nanoTime();
+        List<Pupil> pupils = setUp(executor);
+        System.out.printf("Setup: %d parents, %d children, %d lists in %.1fs%n", options.parents(), pupils.size(),
+                pupils.size() * options.listsPerChild(), (System.nanoTime() - setupStart) / 1e9);
+
+        List<VirtualUser> users = loginUsers(executor, pupils);
+        if (!options.warmup().isZero()) {
+            System.out.printf("Warm-up: %s%n", options.warmup());
+            drive(executor, users, options.warmup());
+        }
+        System.out.printf("Measuring: %d users, %s, %s for %s%n", users.size(),
+                options.rate() > 0 ? options.rate() + " req/s" : "closed loop", options.baseUrl(), options.duration());
+        client.startRecording();
+        long start = System.nanoTime();
+        drive(executor, users, options.duration());
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        client.stopRecording();
+
+        Map<String, LoadTestClient.EndpointStats> stats = client.stats();
+        printReport(stats, elapsedSeconds);
+        if (options.output() != null) {
+            writeReport(stats, elapsedSeconds);
+        }
+    }
+
+    private List<Pupil> setUp(ExecutorService executor) throws Exception {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        Semaphore permits = new Semaphore(SETUP_PARALLELISM);
+        List<Future<List<Pupil>>> families = new ArrayList<>();
+        for (int p = 0; p < options.parents(); p++) {
+            int parentIndex = p;
+            families.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return createFamily(runId, parentIndex);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        List<Pupil> pupils = new ArrayList<>();
+        for (Future<List<Pupil>> family : families) {
+            pupils.addAll(family.get());
+        }
+        return pupils;
+    }
+
+    private List<Pupil> createFamily(String runId, int parentIndex) throws IOException, InterruptedException {
+        JsonNode registered = client.setupCall("POST", "/api/auth/register", Map.of(
+                "email", "parent-" + runId + "-" + parentIndex + "@loadtest.local",
+                "password", PASSWORD,
+                "firstName", "Parent " + parentIndex), null);
+        String parentToken = registered.path("token").asText();
+        List<Pupil> children = new ArrayList<>();
+        for (int c = 0; c < options.childrenPerParent(); c++) {
+            String username = "lt" + runId + "p" + parentIndex + "c" + c;
+            JsonNode child = client.setupCall("POST", "/api/children", Map.of(
+                    "firstName", "Enfant " + c,
+                    "username", username,
+                    "password", PASSWORD), parentToken);
+            String childId = child.path("id").asText();
+            List<String> listIds = new ArrayList<>();
+            for (int l = 0; l < options.listsPerChild(); l++) {
+                JsonNode list = client.setupCall("POST", "/api/children/" + childId + "/lists", Map.of(
+                        "name", "Liste " + (l + 1),
+                        "words", randomWords(15)), parentToken);
+                listIds.add(list.path("id").asText());
+            }
+            children.add(new Pupil(childId, username, listIds, parentToken));
+        }
+        return children;
+    }
+
+    private List<VirtualUser> loginUsers(ExecutorService executor, List<Pupil> pupils) throws Exception {
+        Semaphore permits = new Semaphore(SETUP_PARALLELISM);
+        List<Future<VirtualUser>> logins = new ArrayList<>();
+        for (int u = 0; u < options.users(); u++) {
+            Pupil pupil = pupils.get(u % pupils.size());
+            logins.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    JsonNode auth = client.setupCall("POST", "/api/auth/login/child",
+                            Map.of("username", pupil.username(), "password", PASSWORD), null);
+                    return new VirtualUser(pupil, auth.path("token").asText());
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        List<VirtualUser> users = new ArrayList<>();
+        for (Future<VirtualUser> login : logins) {
+            users.add(login.get());
+        }
+        return users;
+    }
+
+    private void drive(ExecutorService executor, List<VirtualUser> users, Duration duration) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        long intervalNanos = options.rate() > 0 ? users.size() * 1_000_000_000L / options.rate() : 0;
+        List<Future<?>> running = new ArrayList<>();
+        for (int u = 0; u < users.size(); u++) {
+            VirtualUser user = users.get(u);
+            // Spread the first requests of an open-loop run evenly over one interval.
+            long firstStart = start + (intervalNanos > 0 ? intervalNanos * u / users.size() : 0);
+            running.add(executor.submit(() -> {
+                long intended = firstStart;
+                while (intended < deadline && !Thread.currentThread().isInterrupted()) {
+                    long now = System.nanoTime();
+                    if (intended > now) {
+                        LockSupport.parkNanos(intended - now);
+                    }
+                    perform(user, Operation.pick(ThreadLocalRandom.current()), intervalNanos > 0 ? intended : System.nanoTime());
+                    intended = intervalNanos > 0 ? intended + intervalNanos : System.nanoTime();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> user : running) {
+            user.get();
+        }
+    }
+
+    private void perform(VirtualUser user, Operation operation, long intendedStart) {
+        Pupil pupil = user.pupil;
+        String listId = pupil.listIds().get(ThreadLocalRandom.current().nextInt(pupil.listIds().size()));
+        switch (operation) {
+            case CHILD_LOGIN -> {
+                JsonNode auth = client.call("POST /api/auth/login/child", "POST", "/api/auth/login/child",
+                        Map.of("username", pupil.username(), "password", PASSWORD), null, intendedStart);
+                if (auth != null) {
+                    user.token = auth.path("token").asText();
+                }
+            }
+            case LIST_LISTS -> client.call("GET /api/children/{id}/lists", "GET",
+                    "/api/children/" + pupil.id() + "/lists", null, user.token, intendedStart);
+            case GET_LIST -> client.call("GET /api/lists/{id}", "GET", "/api/lists/" + listId, null, user.token,
+                    intendedStart);
+            case NEXT_SESSION -> client.call("GET /api/children/{id}/lists/{listId}/next-session", "GET",
+                    "/api/children/" + pupil.id() + "/lists/" + listId + "/next-session", null, user.token, intendedStart);
+            case SAVE_TRAINING -> client.call("POST /api/children/{id}/training", "POST",
+                    "/api/children/" + pupil.id() + "/training", training(listId), user.token, intendedStart);
+            case CHILD_STATS -> client.call("GET /api/children/{id}/stats", "GET",
+                    "/api/children/" + pupil.id() + "/stats", null, user.token, intendedStart);
+            case DASHBOARD -> client.call("GET /api/dashboard", "GET", "/api/dashboard", null, pupil.parentToken(),
+                    intendedStart);
+        }
+    }
+
+    private static Map<String, Object> training(String listId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String word : randomWords(10)) {
+            boolean correct = random.nextInt(5) != 0;
+            results.add(Map.of("word", word, "userAnswer", correct ? word : word + "e", "correct", correct));
+        }
+        return Map.of(
+                "listId", listId,
+                "trainingType", TRAINING_TYPES.get(random.nextInt(TRAINING_TYPES.size())),
+                "durationSeconds", 30 + random.nextInt(120),
+                "results", results);
+    }
+
+    private static List<String> randomWords(int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            words.add(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return words;
+    }
+
+    private static void printReport(Map<String, LoadTestClient.EndpointStats> stats, double elapsedSeconds) {
+        System.out.printf("%n%-52s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        long total = 0;
+        long errors = 0;
+        for (Map.Entry<String, LoadTestClient.EndpointStats> entry : stats.entrySet()) {
+            LoadTestClient.EndpointStats endpoint = entry.getValue();
+            LatencyHistogram latency = endpoint.latency();
+            System.out.printf("%-52s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), latency.count(),
+                    endpoint.errors(), latency.count() / elapsedSeconds, millis(latency.percentile(0.50)),
+                    millis(latency.percentile(0.99)), millis(latency.percentile(0.999)), millis(latency.max()));
+            if (endpoint.errors() > 0) {
+                System.out.printf("    status codes: %s%n", endpoint.statuses());
+            }
+            total += latency.count();
+            errors += endpoint.errors();
+        }
+        System.out.printf("%-52s %9d %7d %9.1f%n", "total", total, errors, total / elapsedSeconds);
+    }
+
+    private void writeReport(Map<String, LoadTestClient.EndpointStats> stats, double elapsedSeconds) throws IOException {
+        ObjectNode report = client.mapper().createObjectNode();
+        report.put("baseUrl", options.baseUrl());
+        report.put("users", options.users());
+        report.put("rate", options.rate());
+        report.put("durationSeconds", elapsedSeconds);
+        ArrayNode endpoints = report.putArray("endpoints");
+        stats.forEach((name, endpoint) -> {
+            LatencyHistogram latency = endpoint.latency();
+            ObjectNode node = endpoints.addObject();
+            node.put("endpoint", name);
+            node.put("requests", latency.count());
+            node.put("errors", endpoint.errors());
+            node.put("throughput", latency.count() / elapsedSeconds);
+            node.put("p50Ms", millis(latency.percentile(0.50)));
+            node.put("p99Ms", millis(latency.percentile(0.99)));
+            node.put("p999Ms", millis(latency.percentile(0.999)));
+            node.put("maxMs", millis(latency.max()));
+            ObjectNode statuses = node.putObject("statuses");
+            endpoint.statuses().forEach((status, count) -> statuses.put(String.valueOf(status), count));
+        });
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        client.mapper().writerWithDefaultPrettyPrinter().writeValue(options.output().toFile(), report);
+        System.out.printf("Report written to %s%n", options.output());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
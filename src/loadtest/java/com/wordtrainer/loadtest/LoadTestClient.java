@@ -0,0 +1,147 @@
+package com.wordtrainer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thin JSON client over {@link HttpClient} that records one latency histogram per named endpoint.
+ */
+final class LoadTestClient {
+
+    private static final int MAX_SETUP_RETRIES = 20;
+
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    LoadTestClient(String baseUrl, HttpClient http) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.http = http;
+    }
+
+    void startRecording() {
+        stats.clear();
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    Map<String, EndpointStats> stats() {
+        return new TreeMap<>(stats);
+    }
+
+    /**
+     * Sends a request and returns the {@code data} field of the ApiResponse envelope, or null on failure.
+     * Latency is measured from {@code intendedStartNanos} so an open-loop run does not hide queueing.
+     */
+    JsonNode call(String endpoint, String method, String path, Object body, String token, long intendedStartNanos) {
+        HttpRequest request = request(method, path, body, token);
+        int status;
+        JsonNode data = null;
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            if (status < 400 && response.body().length > 0) {
+                data = mapper.readTree(response.body()).path("data");
+            }
+        } catch (IOException ex) {
+            status = -1;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (recording) {
+            stats.computeIfAbsent(endpoint, k -> new EndpointStats())
+                    .record((System.nanoTime() - intendedStartNanos) / 1_000, status);
+        }
+        return status < 400 ? data : null;
+    }
+
+    /**
+     * Setup calls are not measured; they retry while the password hashing bulkhead sheds load.
+     */
+    JsonNode setupCall(String method, String path, Object body, String token) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            HttpResponse<byte[]> response = http.send(request(method, path, body, token),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 429 && attempt < MAX_SETUP_RETRIES) {
+                Thread.sleep(response.headers().firstValueAsLong("Retry-After").orElse(1) * 1_000);
+                continue;
+            }
+            if (response.statusCode() >= 400) {
+                throw new IOException(method + " " + path + " failed with HTTP " + response.statusCode() + ": "
+                        + new String(response.body()));
+            }
+            return mapper.readTree(response.body()).path("data");
+        }
+    }
+
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    private HttpRequest request(String method, String path, Object body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            try {
+                builder.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+            } catch (IOException ex) {
+                throw new IllegalArgumentException("Cannot serialize request body", ex);
+            }
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    static final class EndpointStats {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+        private final ConcurrentMap<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+
+        void record(long micros, int status) {
+            latency.record(micros);
+            if (status < 200 || status >= 400) {
+                errors.incrementAndGet();
+            }
+            statuses.computeIfAbsent(status, k -> new AtomicLong()).incrementAndGet();
+        }
+
+        LatencyHistogram latency() {
+            return latency;
+        }
+
+        long errors() {
+            return errors.get();
+        }
+
+        Map<Integer, Long> statuses() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statuses.forEach((status, count) -> counts.put(status, count.get()));
+            return counts;
+        }
+    }
+}
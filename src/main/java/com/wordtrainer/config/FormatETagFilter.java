@@ -0,0 +1,163 @@
+package com.wordtrainer.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * The same revision of a resource is served as JSON, CBOR or Smile, and a strong ETag must differ between
+ * representations. Controllers compute ETags from document revisions only; this filter suffixes every ETag
+ * with the format negotiated from {@code Accept}, and strips that suffix from {@code If-None-Match} and
+ * {@code If-Match}, so a tag only validates a request for the format it was issued for.
+ */
+public class FormatETagFilter extends OncePerRequestFilter {
+
+    private enum Format {
+        // Same order as the message converters: JSON wins when Accept allows several formats equally
+        JSON("json", MediaType.APPLICATION_JSON),
+        CBOR("cbor", MediaType.APPLICATION_CBOR),
+        SMILE("smile", new MediaType("application", "x-jackson-smile"));
+
+        private final String suffix;
+        private final MediaType mediaType;
+
+        Format(String suffix, MediaType mediaType) {
+            this.suffix = "-" + suffix;
+            this.mediaType = mediaType;
+        }
+    }
+
+    // Matches no ETag, for an If-Match whose tags were all issued for another format
+    private static final String NO_MATCH = "\"\"";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Format format = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        filterChain.doFilter(new ConditionalRequest(request, format), new TaggedResponse(response, format));
+    }
+
+    private static Format negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Format.JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return Format.JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (Format format : Format.values()) {
+                if (type.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return Format.JSON;
+    }
+
+    private static String withSuffix(String etag, Format format) {
+        if (etag == null || etag.endsWith(format.suffix + "\"")) {
+            return etag;
+        }
+        return etag.endsWith("\"")
+                ? etag.substring(0, etag.length() - 1) + format.suffix + "\""
+                : etag + format.suffix;
+    }
+
+    // Tags for this format lose their suffix; tags for other formats, or unsuffixed ones, are dropped.
+    private static String withoutSuffix(String header, Format format, boolean ifMatch) {
+        List<String> kept = new ArrayList<>();
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                kept.add(tag);
+            } else if (tag.endsWith(format.suffix + "\"")) {
+                kept.add(tag.substring(0, tag.length() - format.suffix.length() - 1) + "\"");
+            }
+        }
+        if (kept.isEmpty()) {
+            return ifMatch ? NO_MATCH : null;
+        }
+        return String.join(", ", kept);
+    }
+
+    private static class ConditionalRequest extends HttpServletRequestWrapper {
+
+        private final Format format;
+
+        ConditionalRequest(HttpServletRequest request, Format format) {
+            super(request);
+            this.format = format;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            if (value == null || value.isBlank()) {
+                return value;
+            }
+            if (HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)) {
+                return withoutSuffix(value, format, false);
+            }
+            if (HttpHeaders.IF_MATCH.equalsIgnoreCase(name)) {
+                return withoutSuffix(value, format, true);
+            }
+            return value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (!HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) && !HttpHeaders.IF_MATCH.equalsIgnoreCase(name)) {
+                return super.getHeaders(name);
+            }
+            List<String> values = Collections.list(super.getHeaders(name));
+            if (values.isEmpty()) {
+                return Collections.emptyEnumeration();
+            }
+            String value = withoutSuffix(String.join(", ", values), format,
+                    HttpHeaders.IF_MATCH.equalsIgnoreCase(name));
+            return value != null ? Collections.enumeration(List.of(value)) : Collections.emptyEnumeration();
+        }
+    }
+
+    private static class TaggedResponse extends HttpServletResponseWrapper {
+
+        private final Format format;
+
+        TaggedResponse(HttpServletResponse response, Format format) {
+            super(response);
+            this.format = format;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            super.setHeader(name, HttpHeaders.ETAG.equalsIgnoreCase(name) ? withSuffix(value, format) : value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            super.addHeader(name, HttpHeaders.ETAG.equalsIgnoreCase(name) ? withSuffix(value, format) : value);
+        }
+    }
+}
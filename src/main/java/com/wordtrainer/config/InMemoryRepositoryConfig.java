@@ -0,0 +1,117 @@
+package com.wordtrainer.config;
+
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.DailyProgressRepository;
+import com.wordtrainer.repository.DeletionJobRepository;
+import com.wordtrainer.repository.ParentRepository;
+import com.wordtrainer.repository.TrainingSessionRepository;
+import com.wordtrainer.repository.WordListRepository;
+import com.wordtrainer.repository.WordStatRepository;
+import com.wordtrainer.repository.inmemory.InMemoryChildRepository;
+import com.wordtrainer.repository.inmemory.InMemoryDailyProgressRepository;
+import com.wordtrainer.repository.inmemory.InMemoryDeletionJobRepository;
+import com.wordtrainer.repository.inmemory.InMemoryParentRepository;
+import com.wordtrainer.repository.inmemory.InMemoryTrainingSessionRepository;
+import com.wordtrainer.repository.inmemory.InMemoryWordListRepository;
+import com.wordtrainer.repository.inmemory.InMemoryWordStatRepository;
+import com.wordtrainer.repository.inmemory.InjectedLatency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Replaces the MongoDB repositories with concurrent in-memory ones so the web, security and service
+ * layers can be load-tested without a database. Never enable this profile in production: data lives
+ * in the heap and is lost on restart. {@code inmemory.repository-latency} makes each repository call wait like a
+ * MongoDB round trip, so thread models can be compared on I/O waits rather than on CPU alone.
+ */
+@Configuration
+@Profile("inmemory")
+public class InMemoryRepositoryConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryRepositoryConfig.class);
+
+    private final Duration repositoryLatency;
+
+    public InMemoryRepositoryConfig(@Value("${inmemory.repository-latency:0ms}") Duration repositoryLatency) {
+        this.repositoryLatency = repositoryLatency;
+    }
+
+    @Bean
+    public MappingMongoConverter inMemoryMongoConverter() {
+        log.warn("Using in-memory repositories: data is not persisted");
+        if (!repositoryLatency.isZero()) {
+            log.warn("Repository calls wait {} ms each", repositoryLatency.toMillis());
+        }
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    @Bean
+    public ParentRepository parentRepository(MappingMongoConverter converter) {
+        return withLatency(ParentRepository.class, new InMemoryParentRepository(converter));
+    }
+
+    // The child repository reads sessions and stats directly for the dashboard, bypassing the injected latency
+    @Bean(autowireCandidate = false)
+    public InMemoryTrainingSessionRepository inMemoryTrainingSessionRepository(MappingMongoConverter converter) {
+        return new InMemoryTrainingSessionRepository(converter);
+    }
+
+    @Bean(autowireCandidate = false)
+    public InMemoryWordStatRepository inMemoryWordStatRepository(MappingMongoConverter converter) {
+        return new InMemoryWordStatRepository(converter);
+    }
+
+    @Bean
+    public TrainingSessionRepository trainingSessionRepository(MappingMongoConverter converter) {
+        return withLatency(TrainingSessionRepository.class, inMemoryTrainingSessionRepository(converter));
+    }
+
+    @Bean
+    public WordStatRepository wordStatRepository(MappingMongoConverter converter) {
+        return withLatency(WordStatRepository.class, inMemoryWordStatRepository(converter));
+    }
+
+    @Bean
+    public ChildRepository childRepository(MappingMongoConverter converter) {
+        return withLatency(ChildRepository.class, new InMemoryChildRepository(converter,
+                inMemoryTrainingSessionRepository(converter), inMemoryWordStatRepository(converter)));
+    }
+
+    @Bean
+    public WordListRepository wordListRepository(MappingMongoConverter converter) {
+        return withLatency(WordListRepository.class, new InMemoryWordListRepository(converter));
+    }
+
+    @Bean
+    public DailyProgressRepository dailyProgressRepository(MappingMongoConverter converter) {
+        return withLatency(DailyProgressRepository.class,
+                new InMemoryDailyProgressRepository(converter, inMemoryTrainingSessionRepository(converter)));
+    }
+
+    @Bean
+    public DeletionJobRepository deletionJobRepository(MappingMongoConverter converter) {
+        return withLatency(DeletionJobRepository.class, new InMemoryDeletionJobRepository(converter));
+    }
+
+    private <R> R withLatency(Class<R> repositoryInterface, R repository) {
+        return InjectedLatency.wrap(repositoryInterface, repository, repositoryLatency);
+    }
+}
@@ -0,0 +1,63 @@
+package com.wordtrainer.config;
+
+import com.mongodb.client.MongoClient;
+import com.wordtrainer.monitoring.RepositoryMethodContext;
+import com.wordtrainer.monitoring.SlowQueryEndpoint;
+import com.wordtrainer.monitoring.SlowQueryListener;
+import com.wordtrainer.monitoring.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.time.Duration;
+
+/**
+ * Captures Mongo commands slower than {@code mongo.slow-queries.threshold} with the calling repository
+ * method and an explain of the plan, served at {@code /actuator/slowqueries}.
+ */
+@Configuration
+@Profile("!inmemory")
+@ConditionalOnProperty(name = "mongo.slow-queries.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(ObjectProvider<MongoClient> mongoClient, MeterRegistry meterRegistry,
+                                     @Value("${mongo.slow-queries.capacity:100}") int capacity,
+                                     @Value("${mongo.slow-queries.explain:true}") boolean explain) {
+        return new SlowQueryLog(mongoClient, meterRegistry, capacity, explain);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryListener(
+            SlowQueryLog slowQueryLog, @Value("${mongo.slow-queries.threshold:100ms}") Duration threshold) {
+        SlowQueryListener listener = new SlowQueryListener(slowQueryLog, threshold);
+        return settings -> settings.addCommandListener(listener);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryMethodTracking() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repository) -> proxyFactory.addAdvice(
+                                    RepositoryMethodContext.interceptor(repository.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -5,8 +5,8 @@ import com.wordtrainer.dto.request.LoginRequest;
 import com.wordtrainer.dto.request.RegisterRequest;
 import com.wordtrainer.dto.response.ApiResponse;
 import com.wordtrainer.dto.response.AuthResponse;
-import com.wordtrainer.repository.ChildRepository;
 import com.wordtrainer.service.AuthService;
+import com.wordtrainer.service.UsernameIndex;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,11 +19,11 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
-    private final ChildRepository childRepository;
+    private final UsernameIndex usernameIndex;
 
-    public AuthController(AuthService authService, ChildRepository childRepository) {
+    public AuthController(AuthService authService, UsernameIndex usernameIndex) {
         this.authService = authService;
-        this.childRepository = childRepository;
+        this.usernameIndex = usernameIndex;
     }
 
     @PostMapping("/register")
@@ -46,7 +46,7 @@ public class AuthController {
 
     @GetMapping("/check-username/{username}")
     public ResponseEntity<ApiResponse<Map<String, Boolean>>> checkUsername(@PathVariable String username) {
-        boolean available = !childRepository.existsByUsername(username.toLowerCase());
+        boolean available = !usernameIndex.isTaken(username);
         return ResponseEntity.ok(ApiResponse.success(Map.of("available", available)));
     }
 }
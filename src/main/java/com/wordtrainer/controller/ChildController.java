@@ -6,13 +6,18 @@ import com.wordtrainer.dto.request.UpdateSettingsRequest;
 import com.wordtrainer.dto.response.ApiResponse;
 import com.wordtrainer.dto.response.ChildResponse;
 import com.wordtrainer.model.Child;
+import com.wordtrainer.model.DeletionJob;
 import com.wordtrainer.service.ChildService;
+import com.wordtrainer.service.ETags;
+import com.wordtrainer.service.Revisioned;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -59,30 +64,37 @@ public class ChildController {
     public ResponseEntity<ApiResponse<ChildResponse>> updateChild(
             Authentication auth,
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateChildRequest request) {
         String parentId = auth.getName();
-        ChildResponse child = childService.updateChild(id, parentId, request);
-        return ResponseEntity.ok(ApiResponse.success(child, "Enfant mis à jour"));
+        ChildResponse child = childService.updateChild(id, parentId, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(child.getId(), child.getVersion()))
+                .body(ApiResponse.success(child, "Enfant mis à jour"));
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('PARENT')")
-    public ResponseEntity<ApiResponse<Void>> deleteChild(
+    public ResponseEntity<ApiResponse<DeletionJob>> deleteChild(
             Authentication auth,
             @PathVariable String id) {
         String parentId = auth.getName();
-        childService.deleteChild(id, parentId);
-        return ResponseEntity.ok(ApiResponse.success(null, "Enfant supprimé"));
+        DeletionJob job = childService.deleteChild(id, parentId);
+        return ResponseEntity.accepted().body(ApiResponse.success(job, "Enfant supprimé"));
     }
 
     @GetMapping("/{id}/settings")
     @PreAuthorize("hasRole('PARENT')")
     public ResponseEntity<ApiResponse<Child.Settings>> getSettings(
             Authentication auth,
-            @PathVariable String id) {
+            @PathVariable String id,
+            WebRequest webRequest) {
         String parentId = auth.getName();
-        Child.Settings settings = childService.getSettings(id, parentId);
-        return ResponseEntity.ok(ApiResponse.success(settings));
+        Revisioned<Child.Settings> settings = childService.getSettings(id, parentId);
+        if (webRequest.checkNotModified(settings.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(settings.etag()).body(ApiResponse.success(settings.value()));
     }
 
     @PutMapping("/{id}/settings")
@@ -90,10 +102,13 @@ public class ChildController {
     public ResponseEntity<ApiResponse<Child.Settings>> updateSettings(
             Authentication auth,
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateSettingsRequest request) {
         String parentId = auth.getName();
-        Child.Settings settings = childService.updateSettings(id, parentId, request);
-        return ResponseEntity.ok(ApiResponse.success(settings, "Paramètres mis à jour"));
+        Revisioned<Child.Settings> settings = childService.updateSettings(id, parentId, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(settings.etag())
+                .body(ApiResponse.success(settings.value(), "Paramètres mis à jour"));
     }
 
     @PostMapping("/{id}/settings/reset")
@@ -0,0 +1,29 @@
+package com.wordtrainer.controller;
+
+import com.wordtrainer.dto.response.ApiResponse;
+import com.wordtrainer.dto.response.ChildDashboardResponse;
+import com.wordtrainer.service.DashboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('PARENT')")
+    public ResponseEntity<ApiResponse<List<ChildDashboardResponse>>> getDashboard(Authentication auth) {
+        List<ChildDashboardResponse> dashboard = dashboardService.getDashboard(auth.getName());
+        return ResponseEntity.ok(ApiResponse.success(dashboard));
+    }
+}
@@ -0,0 +1,35 @@
+package com.wordtrainer.controller;
+
+import com.wordtrainer.dto.response.ApiResponse;
+import com.wordtrainer.model.DeletionJob;
+import com.wordtrainer.service.DeletionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+public class DeletionController {
+
+    private final DeletionService deletionService;
+
+    public DeletionController(DeletionService deletionService) {
+        this.deletionService = deletionService;
+    }
+
+    @GetMapping("/deletions/{id}")
+    public ResponseEntity<ApiResponse<DeletionJob>> getDeletion(
+            Authentication auth,
+            @PathVariable String id) {
+        DeletionJob job = deletionService.getJob(id, auth.getName());
+        return ResponseEntity.ok(ApiResponse.success(job));
+    }
+
+    @DeleteMapping("/account")
+    @PreAuthorize("hasRole('PARENT')")
+    public ResponseEntity<ApiResponse<DeletionJob>> deleteAccount(Authentication auth) {
+        DeletionJob job = deletionService.deleteParent(auth.getName());
+        return ResponseEntity.accepted().body(ApiResponse.success(job, "Compte supprimé"));
+    }
+}
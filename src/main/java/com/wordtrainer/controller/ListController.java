@@ -2,15 +2,26 @@ package com.wordtrainer.controller;
 
 import com.wordtrainer.dto.request.CreateListRequest;
 import com.wordtrainer.dto.response.ApiResponse;
+import com.wordtrainer.dto.response.ListImportResponse;
+import com.wordtrainer.model.DeletionJob;
 import com.wordtrainer.model.WordList;
+import com.wordtrainer.service.ETags;
+import com.wordtrainer.service.ListImportService;
 import com.wordtrainer.service.ListService;
+import com.wordtrainer.service.NextSession;
+import com.wordtrainer.service.SessionGenerator;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -18,17 +29,27 @@ import java.util.List;
 public class ListController {
 
     private final ListService listService;
+    private final ListImportService listImportService;
+    private final SessionGenerator sessionGenerator;
 
-    public ListController(ListService listService) {
+    public ListController(ListService listService, ListImportService listImportService,
+                          SessionGenerator sessionGenerator) {
         this.listService = listService;
+        this.listImportService = listImportService;
+        this.sessionGenerator = sessionGenerator;
     }
 
     @GetMapping("/children/{childId}/lists")
     public ResponseEntity<ApiResponse<List<WordList>>> getLists(
             Authentication auth,
-            @PathVariable String childId) {
+            @PathVariable String childId,
+            WebRequest webRequest) {
         List<WordList> lists = listService.getListsForChild(childId);
-        return ResponseEntity.ok(ApiResponse.success(lists));
+        String etag = ETags.of(lists);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(lists));
     }
 
     @PostMapping("/children/{childId}/lists")
@@ -41,29 +62,65 @@ public class ListController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(list, "Liste créée avec succès"));
     }
 
+    @PostMapping(value = "/children/{childId}/lists/import", consumes = {MediaType.TEXT_PLAIN_VALUE, "text/csv"})
+    public ResponseEntity<ApiResponse<ListImportResponse>> importLists(
+            Authentication auth,
+            @PathVariable String childId,
+            @RequestParam String name,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "0") int column,
+            @RequestParam(defaultValue = "false") boolean header,
+            @RequestParam(required = false) Integer wordsPerList,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        String role = getRole(auth);
+        ListImportService.Format importFormat = format != null
+                ? ListImportService.Format.of(format)
+                : contentType.startsWith("text/csv") ? ListImportService.Format.CSV : ListImportService.Format.TEXT;
+        ListImportResponse result = listImportService.importLists(childId, auth.getName(), role, name,
+                importFormat, column, header, wordsPerList, body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(result, "Import terminé"));
+    }
+
+    @GetMapping("/children/{childId}/lists/{listId}/next-session")
+    public ResponseEntity<ApiResponse<NextSession>> getNextSession(
+            Authentication auth,
+            @PathVariable String childId,
+            @PathVariable String listId) {
+        NextSession session = sessionGenerator.nextSession(childId, listId, auth.getName(), getRole(auth));
+        return ResponseEntity.ok(ApiResponse.success(session));
+    }
+
     @GetMapping("/lists/{id}")
-    public ResponseEntity<ApiResponse<WordList>> getList(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<WordList>> getList(@PathVariable String id, WebRequest webRequest) {
         WordList list = listService.getList(id);
-        return ResponseEntity.ok(ApiResponse.success(list));
+        String etag = ETags.of(list.getId(), list.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(list));
     }
 
     @PutMapping("/lists/{id}")
     public ResponseEntity<ApiResponse<WordList>> updateList(
             Authentication auth,
             @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody CreateListRequest request) {
         String role = getRole(auth);
-        WordList list = listService.updateList(id, auth.getName(), role, request);
-        return ResponseEntity.ok(ApiResponse.success(list, "Liste mise à jour"));
+        WordList list = listService.updateList(id, auth.getName(), role, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(list.getId(), list.getVersion()))
+                .body(ApiResponse.success(list, "Liste mise à jour"));
     }
 
     @DeleteMapping("/lists/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteList(
+    public ResponseEntity<ApiResponse<DeletionJob>> deleteList(
             Authentication auth,
             @PathVariable String id) {
         String role = getRole(auth);
-        listService.deleteList(id, auth.getName(), role);
-        return ResponseEntity.ok(ApiResponse.success(null, "Liste supprimée"));
+        DeletionJob job = listService.deleteList(id, auth.getName(), role);
+        return ResponseEntity.accepted().body(ApiResponse.success(job, "Liste supprimée"));
     }
 
     private String getRole(Authentication auth) {
@@ -1,16 +1,34 @@
 package com.wordtrainer.controller;
 
+import com.wordtrainer.dto.request.SaveTrainingBatchRequest;
 import com.wordtrainer.dto.request.SaveTrainingRequest;
 import com.wordtrainer.dto.response.ApiResponse;
+import com.wordtrainer.exception.ResourceNotFoundException;
+import com.wordtrainer.model.DailyProgress;
 import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.model.WordStat;
+import com.wordtrainer.service.ChildOwnershipResolver;
+import com.wordtrainer.service.DueWord;
+import com.wordtrainer.service.HistoryExportService;
+import com.wordtrainer.service.HistoryPage;
+import com.wordtrainer.service.ProgressService;
+import com.wordtrainer.service.Revisioned;
 import com.wordtrainer.service.TrainingService;
+import com.wordtrainer.service.WordStatsService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -18,19 +36,55 @@ import java.util.Map;
 @RequestMapping("/api/children/{childId}")
 public class TrainingController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TrainingService trainingService;
+    private final WordStatsService wordStatsService;
+    private final HistoryExportService historyExportService;
+    private final ProgressService progressService;
+    private final ChildOwnershipResolver ownershipResolver;
 
-    public TrainingController(TrainingService trainingService) {
+    public TrainingController(TrainingService trainingService, WordStatsService wordStatsService,
+                              HistoryExportService historyExportService, ProgressService progressService,
+                              ChildOwnershipResolver ownershipResolver) {
         this.trainingService = trainingService;
+        this.wordStatsService = wordStatsService;
+        this.historyExportService = historyExportService;
+        this.progressService = progressService;
+        this.ownershipResolver = ownershipResolver;
     }
 
     @GetMapping("/history")
     public ResponseEntity<ApiResponse<List<TrainingSession>>> getHistory(
             @PathVariable String childId,
             @RequestParam(required = false) String listId,
-            @RequestParam(defaultValue = "50") int limit) {
-        List<TrainingSession> sessions = trainingService.getHistory(childId, listId, limit);
-        return ResponseEntity.ok(ApiResponse.success(sessions));
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        HistoryPage page = trainingService.getHistory(childId, listId, limit, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(ApiResponse.success(page.sessions()));
+    }
+
+    @GetMapping("/history/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            Authentication auth,
+            @PathVariable String childId,
+            @RequestParam(required = false) String listId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        HistoryExportService.Format exportFormat = HistoryExportService.Format.of(format);
+        ownershipResolver.checkAccess(childId, auth.getName(), getRole(auth));
+
+        StreamingResponseBody body = out -> historyExportService.export(childId, listId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("historique-" + childId + "." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @PostMapping("/training")
@@ -43,10 +97,23 @@ public class TrainingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(session, "Entraînement enregistré"));
     }
 
+    @PostMapping("/training/batch")
+    public ResponseEntity<ApiResponse<List<TrainingSession>>> saveTrainingBatch(
+            Authentication auth,
+            @PathVariable String childId,
+            @Valid @RequestBody SaveTrainingBatchRequest request) {
+        String role = getRole(auth);
+        List<TrainingSession> sessions = trainingService.saveTrainingBatch(childId, auth.getName(), role, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(sessions, "Entraînements enregistrés"));
+    }
+
     @GetMapping("/stats")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(@PathVariable String childId) {
-        Map<String, Object> stats = trainingService.getChildStats(childId);
-        return ResponseEntity.ok(ApiResponse.success(stats));
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(@PathVariable String childId, WebRequest webRequest) {
+        Revisioned<Map<String, Object>> stats = trainingService.getChildStats(childId);
+        if (webRequest.checkNotModified(stats.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(stats.etag()).body(ApiResponse.success(stats.value()));
     }
 
     @GetMapping("/failed-words")
@@ -58,6 +125,51 @@ public class TrainingController {
         return ResponseEntity.ok(ApiResponse.success(words));
     }
 
+    @GetMapping("/word-stats")
+    public ResponseEntity<ApiResponse<List<WordStat>>> getWordStats(
+            Authentication auth,
+            @PathVariable String childId,
+            @RequestParam(required = false) String listId,
+            @RequestParam(defaultValue = "50") int limit) {
+        ownershipResolver.checkAccess(childId, auth.getName(), getRole(auth));
+        List<WordStat> stats = wordStatsService.getWordStats(childId, listId, limit);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
+    @GetMapping("/word-stats/{word}")
+    public ResponseEntity<ApiResponse<WordStat>> getWordStat(
+            Authentication auth,
+            @PathVariable String childId,
+            @PathVariable String word,
+            @RequestParam String listId) {
+        ownershipResolver.checkAccess(childId, auth.getName(), getRole(auth));
+        WordStat stat = wordStatsService.getWordStat(childId, listId, word)
+                .orElseThrow(() -> new ResourceNotFoundException("Aucune statistique pour le mot: " + word));
+        return ResponseEntity.ok(ApiResponse.success(stat));
+    }
+
+    @GetMapping("/progress")
+    public ResponseEntity<ApiResponse<List<DailyProgress>>> getProgress(
+            Authentication auth,
+            @PathVariable String childId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ownershipResolver.checkAccess(childId, auth.getName(), getRole(auth));
+        List<DailyProgress> progress = progressService.getProgress(childId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(progress));
+    }
+
+    @GetMapping("/lists/{listId}/due-words")
+    public ResponseEntity<ApiResponse<List<DueWord>>> getDueWords(
+            Authentication auth,
+            @PathVariable String childId,
+            @PathVariable String listId,
+            @RequestParam(required = false) Integer limit) {
+        ownershipResolver.checkAccess(childId, auth.getName(), getRole(auth));
+        List<DueWord> words = wordStatsService.getDueWords(childId, listId, limit);
+        return ResponseEntity.ok(ApiResponse.success(words));
+    }
+
     private String getRole(Authentication auth) {
         return auth.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -0,0 +1,20 @@
+package com.wordtrainer.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveTrainingBatchRequest {
+    
+    @NotEmpty(message = "Les entraînements sont requis")
+    @Size(max = 100, message = "Un lot ne peut pas contenir plus de 100 entraînements")
+    private List<@Valid SaveTrainingRequest> sessions;
+}
@@ -0,0 +1,27 @@
+package com.wordtrainer.dto.response;
+
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.WordErrorCount;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChildDashboardResponse {
+    
+    private ChildResponse child;
+    private Integer successRate;
+    
+    @Builder.Default
+    private List<TrainingSession> recentSessions = new ArrayList<>();
+    
+    @Builder.Default
+    private List<WordErrorCount> failedWords = new ArrayList<>();
+}
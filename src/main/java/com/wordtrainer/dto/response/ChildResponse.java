@@ -24,6 +24,7 @@ public class ChildResponse {
     private Child.Stats stats;
     private Instant createdAt;
     private Instant updatedAt;
+    private Long version;
     
     public static ChildResponse fromEntity(Child child) {
         return ChildResponse.builder()
@@ -37,6 +38,7 @@ public class ChildResponse {
                 .stats(child.getStats())
                 .createdAt(child.getCreatedAt())
                 .updatedAt(child.getUpdatedAt())
+                .version(child.getVersion())
                 .build();
     }
 }
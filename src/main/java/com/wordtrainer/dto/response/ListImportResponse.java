@@ -0,0 +1,39 @@
+package com.wordtrainer.dto.response;
+
+import com.wordtrainer.model.WordList;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListImportResponse {
+
+    @Builder.Default
+    private List<WordList> lists = new ArrayList<>();
+
+    private long linesRead;
+    private long wordsImported;
+    private long duplicates;
+    private long errorCount;
+    private boolean truncated;
+
+    @Builder.Default
+    private List<LineError> errors = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+        private long line;
+        private String value;
+        private String message;
+    }
+}
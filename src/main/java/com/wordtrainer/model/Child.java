@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -49,6 +50,15 @@ public class Child {
     
     @LastModifiedDate
     private Instant updatedAt;
+
+    // Set when the parent account is deleted; the document itself goes once the background cascade finishes.
+    private Instant deletedAt;
+    
+    @Version
+    private Long version;
+
+    // Revision of the settings alone, for their ETag: trainings bump version but leave settings untouched.
+    private Long settingsRevision;
     
     @Data
     @Builder
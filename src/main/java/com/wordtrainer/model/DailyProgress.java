@@ -0,0 +1,58 @@
+package com.wordtrainer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "daily_progress")
+@CompoundIndex(name = "child_day", def = "{'childId': 1, 'day': 1}", unique = true)
+public class DailyProgress {
+    
+    @Id
+    private String id;
+    
+    private String childId;
+    
+    private String day;
+    
+    @Builder.Default
+    private Integer sessions = 0;
+    
+    @Builder.Default
+    private Integer words = 0;
+    
+    @Builder.Default
+    private Integer correct = 0;
+    
+    @Builder.Default
+    private Integer durationSeconds = 0;
+    
+    @Builder.Default
+    private Map<String, TypeProgress> byType = new HashMap<>();
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TypeProgress {
+        @Builder.Default
+        private Integer sessions = 0;
+        
+        @Builder.Default
+        private Integer words = 0;
+        
+        @Builder.Default
+        private Integer correct = 0;
+    }
+}
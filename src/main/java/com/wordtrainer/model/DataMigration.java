@@ -0,0 +1,27 @@
+package com.wordtrainer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "data_migrations")
+public class DataMigration {
+
+    @Id
+    private String name;
+
+    private String description;
+
+    private Instant startedAt;
+
+    private Instant completedAt;
+}
@@ -0,0 +1,64 @@
+package com.wordtrainer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "deletion_jobs")
+@CompoundIndex(name = "status_created", def = "{'status': 1, 'createdAt': 1}")
+public class DeletionJob {
+    
+    @Id
+    private String id;
+    
+    private Type type;
+    
+    private String targetId;
+    
+    private String childId;
+    
+    private String requestedBy;
+    
+    @Builder.Default
+    private Status status = Status.PENDING;
+    
+    @Builder.Default
+    private Map<String, Long> deletedCounts = new HashMap<>();
+    
+    @Builder.Default
+    private Integer attempts = 0;
+    
+    private Instant lockedUntil;
+    
+    private String lastError;
+    
+    private Instant completedAt;
+    
+    @CreatedDate
+    private Instant createdAt;
+    
+    @LastModifiedDate
+    private Instant updatedAt;
+    
+    public enum Type {
+        PARENT, CHILD, LIST
+    }
+    
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,32 @@
+package com.wordtrainer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "index_migrations")
+public class IndexMigration {
+    
+    @Id
+    private Integer version;
+    
+    private String description;
+    
+    @Builder.Default
+    private List<String> indexes = new ArrayList<>();
+    
+    private Instant startedAt;
+    
+    private Instant appliedAt;
+}
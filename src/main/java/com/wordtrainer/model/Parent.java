@@ -37,6 +37,9 @@ public class Parent {
     
     @LastModifiedDate
     private Instant updatedAt;
+
+    // Set when the account is deleted; the document itself goes once the background cascade finishes.
+    private Instant deletedAt;
     
     @Data
     @Builder
@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -18,12 +20,15 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "training_sessions")
+@CompoundIndexes({
+        @CompoundIndex(name = "child_created", def = "{'childId': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "child_list_created", def = "{'childId': 1, 'listId': 1, 'createdAt': -1, '_id': -1}")
+})
 public class TrainingSession {
     
     @Id
     private String id;
     
-    @Indexed
     private String childId;
     
     @Indexed
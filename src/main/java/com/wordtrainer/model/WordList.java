@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,7 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "lists")
@@ -31,10 +32,16 @@ public class WordList {
     
     @Builder.Default
     private List<String> words = new ArrayList<>();
+
+    // True once every word has a word_stats row, so due-word reads never need the word list itself.
+    private Boolean wordsScheduled;
     
     @CreatedDate
     private Instant createdAt;
     
     @LastModifiedDate
     private Instant updatedAt;
+    
+    @Version
+    private Long version;
 }
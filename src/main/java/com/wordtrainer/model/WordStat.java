@@ -0,0 +1,49 @@
+package com.wordtrainer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "word_stats")
+@CompoundIndexes({
+        @CompoundIndex(name = "child_list_word", def = "{'childId': 1, 'listId': 1, 'word': 1}", unique = true),
+        @CompoundIndex(name = "child_list_errors", def = "{'childId': 1, 'listId': 1, 'errors': -1}"),
+        @CompoundIndex(name = "child_errors", def = "{'childId': 1, 'errors': -1}"),
+        @CompoundIndex(name = "child_list_due", def = "{'childId': 1, 'listId': 1, 'dueAt': 1}")
+})
+public class WordStat {
+    
+    @Id
+    private String id;
+    
+    private String childId;
+    
+    private String listId;
+    
+    private String word;
+    
+    @Builder.Default
+    private Integer attempts = 0;
+    
+    @Builder.Default
+    private Integer errors = 0;
+    
+    private Instant lastSeen;
+    
+    private Boolean lastResult;
+    
+    private Integer box;
+    
+    private Instant dueAt;
+}
@@ -0,0 +1,37 @@
+package com.wordtrainer.monitoring;
+
+import com.wordtrainer.repository.migration.DataMigrationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Part of the readiness group: an instance takes no traffic until existing documents have been migrated.
+ */
+@Component
+@Profile("!inmemory")
+public class DataMigrationHealthIndicator implements HealthIndicator {
+
+    private final DataMigrationRunner runner;
+
+    public DataMigrationHealthIndicator(DataMigrationRunner runner) {
+        this.runner = runner;
+    }
+
+    @Override
+    public Health health() {
+        DataMigrationRunner.State state = runner.state();
+        if (state == DataMigrationRunner.State.COMPLETED) {
+            return Health.up().withDetail("state", state).build();
+        }
+        Health.Builder health = Health.outOfService().withDetail("state", state);
+        if (runner.runningStep() != null) {
+            health.withDetail("step", runner.runningStep());
+        }
+        if (runner.error() != null) {
+            health.withDetail("error", runner.error());
+        }
+        return health.build();
+    }
+}
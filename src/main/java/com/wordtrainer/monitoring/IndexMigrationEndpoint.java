@@ -0,0 +1,25 @@
+package com.wordtrainer.monitoring;
+
+import com.wordtrainer.repository.migration.IndexMigrationRunner;
+import com.wordtrainer.repository.migration.IndexMigrationStatus;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!inmemory")
+@Endpoint(id = "indexmigrations")
+public class IndexMigrationEndpoint {
+
+    private final IndexMigrationRunner runner;
+
+    public IndexMigrationEndpoint(IndexMigrationRunner runner) {
+        this.runner = runner;
+    }
+
+    @ReadOperation
+    public IndexMigrationStatus status() {
+        return runner.status();
+    }
+}
@@ -0,0 +1,35 @@
+package com.wordtrainer.monitoring;
+
+import com.wordtrainer.repository.migration.IndexMigrationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Part of the readiness group: an instance takes no traffic until the unique indexes its upserts rely on exist.
+ */
+@Component
+@Profile("!inmemory")
+public class IndexMigrationHealthIndicator implements HealthIndicator {
+
+    private final IndexMigrationRunner runner;
+
+    public IndexMigrationHealthIndicator(IndexMigrationRunner runner) {
+        this.runner = runner;
+    }
+
+    @Override
+    public Health health() {
+        IndexMigrationRunner.State state = runner.state();
+        if (state == IndexMigrationRunner.State.COMPLETED || state == IndexMigrationRunner.State.DISABLED) {
+            return Health.up().withDetail("state", state).build();
+        }
+        // Probes call this often: report the runner's own state rather than reading index_migrations.
+        Health.Builder health = Health.outOfService().withDetail("state", state);
+        if (runner.error() != null) {
+            health.withDetail("error", runner.error());
+        }
+        return health.build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.wordtrainer.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+
+/**
+ * Remembers which repository method the current thread is executing, so driver-level listeners can
+ * attribute a Mongo command to e.g. {@code WordStatRepository.findByChildIdAndListId}.
+ */
+public final class RepositoryMethodContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static MethodInterceptor interceptor(Class<?> repositoryInterface) {
+        String repository = repositoryInterface.getSimpleName();
+        return invocation -> {
+            String previous = CURRENT.get();
+            CURRENT.set(repository + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.wordtrainer.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public record SlowQuery(
+        Instant timestamp,
+        String database,
+        String collection,
+        String command,
+        String repositoryMethod,
+        long durationMs,
+        boolean failed,
+        Map<String, Object> query,
+        List<String> planStages,
+        boolean collectionScan,
+        boolean inMemorySort,
+        String explainError) {
+}
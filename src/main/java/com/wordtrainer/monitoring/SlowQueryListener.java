@@ -0,0 +1,64 @@
+package com.wordtrainer.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands Mongo commands slower than the threshold to the {@link SlowQueryLog}, together with the repository
+ * method that issued them.
+ */
+public class SlowQueryListener implements CommandListener {
+
+    static final Set<String> EXPLAINABLE_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+
+    private final SlowQueryLog slowQueryLog;
+    private final long thresholdNanos;
+    private final ConcurrentMap<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+
+    public SlowQueryListener(SlowQueryLog slowQueryLog, Duration threshold) {
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!EXPLAINABLE_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        // The driver only guarantees the command document during this callback, so the part the log keeps is
+        // copied now; the copy is bounded, since this runs for every explainable command, slow or not.
+        inFlight.put(event.getRequestId(), new StartedCommand(event.getDatabaseName(),
+                SlowQueryLog.retained(event.getCommand()), RepositoryMethodContext.current()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+
+    private void complete(int requestId, String commandName, long elapsedNanos, boolean failed) {
+        StartedCommand started = inFlight.remove(requestId);
+        if (started != null && elapsedNanos >= thresholdNanos) {
+            slowQueryLog.record(started.database(), commandName, started.command(), started.repositoryMethod(),
+                    Duration.ofNanos(elapsedNanos), failed);
+        }
+    }
+
+    private record StartedCommand(String database, BsonDocument command, String repositoryMethod) {
+    }
+}
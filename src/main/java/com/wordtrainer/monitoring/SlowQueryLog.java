@@ -0,0 +1,250 @@
+package com.wordtrainer.monitoring;
+
+import com.mongodb.client.MongoClient;
+import com.wordtrainer.repository.QueryPlans;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded ring buffer of slow Mongo commands. Each capture is explained on a single background thread
+ * (queryPlanner verbosity, so the query is planned but not run again) and flagged when the winning plan
+ * scans the whole collection or sorts in memory.
+ */
+public class SlowQueryLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    // Driver and session fields the explain command rejects or does not need.
+    private static final Set<String> TRANSPORT_FIELDS = Set.of("$db", "lsid", "$clusterTime", "txnNumber",
+            "$readPreference", "autocommit", "startTransaction", "readConcern", "writeConcern", "ordered");
+
+    // Longer arrays are cut when a command is captured, e.g. a large $in or the words of a list update.
+    static final int MAX_ARRAY_ELEMENTS = 100;
+
+    // String values under these keys name collections or fields rather than user data.
+    private static final Set<String> STRUCTURAL_KEYS = Set.of("from", "localField", "foreignField", "as", "into",
+            "on", "format", "timezone", "hint");
+
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final boolean explain;
+    private final ArrayDeque<SlowQuery> entries;
+    private final ThreadPoolExecutor explainer;
+
+    public SlowQueryLog(ObjectProvider<MongoClient> mongoClient, MeterRegistry meterRegistry, int capacity,
+                        boolean explain) {
+        this.mongoClient = mongoClient;
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.explain = explain;
+        this.entries = new ArrayDeque<>(capacity);
+        this.explainer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                Thread.ofPlatform().name("slow-query-explain").daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void record(String database, String commandName, BsonDocument command, String repositoryMethod,
+                       Duration duration, boolean failed) {
+        Instant timestamp = Instant.now();
+        String collection = command.isString(commandName) ? command.getString(commandName).getValue() : "";
+        meterRegistry.counter("mongodb.slow.commands", "collection", collection, "command", commandName).increment();
+        try {
+            explainer.execute(() -> add(timestamp, database, collection, commandName, command, repositoryMethod,
+                    duration, failed));
+        } catch (RejectedExecutionException ex) {
+            store(new SlowQuery(timestamp, database, collection, commandName, repositoryMethod, duration.toMillis(),
+                    failed, redact(command, commandName), List.of(), false, false, "explain queue full"));
+        }
+    }
+
+    public synchronized List<SlowQuery> entries() {
+        List<SlowQuery> newestFirst = new ArrayList<>(entries);
+        Collections.reverse(newestFirst);
+        return newestFirst;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainer.shutdownNow();
+    }
+
+    private void add(Instant timestamp, String database, String collection, String commandName, BsonDocument command,
+                     String repositoryMethod, Duration duration, boolean failed) {
+        List<String> stages = List.of();
+        String explainError = null;
+        if (explain) {
+            try {
+                BsonDocument plan = mongoClient.getObject().getDatabase(database).runCommand(
+                        new BsonDocument("explain", explainable(command, commandName))
+                                .append("verbosity", new BsonString("queryPlanner")),
+                        BsonDocument.class);
+                stages = QueryPlans.stages(plan);
+            } catch (RuntimeException ex) {
+                explainError = ex.getMessage();
+            }
+        }
+        boolean collectionScan = QueryPlans.isCollectionScan(stages);
+        boolean inMemorySort = QueryPlans.isInMemorySort(stages);
+        SlowQuery entry = new SlowQuery(timestamp, database, collection, commandName, repositoryMethod,
+                duration.toMillis(), failed, redact(command, commandName), stages, collectionScan, inMemorySort,
+                explainError);
+        store(entry);
+        log.warn("Slow Mongo {} on {} ({} ms) from {}: plan {}{}{}", commandName, collection, entry.durationMs(),
+                repositoryMethod != null ? repositoryMethod : "unknown caller",
+                stages.isEmpty() ? "unavailable" : String.join(" <- ", stages),
+                collectionScan ? " [COLLSCAN]" : "", inMemorySort ? " [in-memory SORT]" : "");
+    }
+
+    private synchronized void store(SlowQuery entry) {
+        if (entries.size() == capacity) {
+            entries.removeFirst();
+        }
+        entries.addLast(entry);
+    }
+
+    /**
+     * The part of a driver command that {@link #explainable} and {@link #redact} use, copied out of the driver's
+     * buffer: no transport fields, only the first statement of an update or delete, and arrays cut to
+     * {@value #MAX_ARRAY_ELEMENTS} elements, so capturing a bulk write costs no more than capturing a find.
+     */
+    public static BsonDocument retained(BsonDocument command) {
+        BsonDocument retained = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (TRANSPORT_FIELDS.contains(key)) {
+                return;
+            }
+            if ((key.equals("updates") || key.equals("deletes")) && value.isArray()) {
+                BsonArray firstStatement = new BsonArray();
+                for (BsonValue statement : value.asArray()) {
+                    firstStatement.add(bounded(statement));
+                    break;
+                }
+                retained.append(key, firstStatement);
+            } else {
+                retained.append(key, bounded(value));
+            }
+        });
+        return retained;
+    }
+
+    private static BsonValue bounded(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument copy = new BsonDocument();
+            value.asDocument().forEach((key, element) -> copy.append(key, bounded(element)));
+            return copy;
+        }
+        if (value.isArray()) {
+            BsonArray copy = new BsonArray();
+            // Iterated rather than indexed: the driver's arrays decode from the start on every get(i)
+            for (BsonValue element : value.asArray()) {
+                if (copy.size() == MAX_ARRAY_ELEMENTS) {
+                    break;
+                }
+                copy.add(bounded(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Strips transport fields; explain on update and delete only accepts a single statement.
+     */
+    public static BsonDocument explainable(BsonDocument command, String commandName) {
+        BsonDocument explainable = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (TRANSPORT_FIELDS.contains(key)) {
+                return;
+            }
+            if ((key.equals("updates") || key.equals("deletes")) && value.isArray() && value.asArray().size() > 1) {
+                value = new BsonArray(List.of(value.asArray().get(0)));
+            }
+            explainable.append(key, value);
+        });
+        return explainable;
+    }
+
+    /**
+     * The command's shape with literal values replaced by {@code "?"}, so the buffer does not hold
+     * usernames, e-mails or ids. Field references ({@code "$field"}) and collection names are kept.
+     */
+    static Map<String, Object> redact(BsonDocument command, String commandName) {
+        Document redacted = new Document();
+        command.forEach((key, value) -> {
+            if (TRANSPORT_FIELDS.contains(key)) {
+                return;
+            }
+            redacted.append(key, key.equals(commandName) ? plain(value) : redactValue(key, value));
+        });
+        return redacted;
+    }
+
+    private static Object redactValue(String key, BsonValue value) {
+        if (value.isDocument()) {
+            Document document = new Document();
+            value.asDocument().forEach((k, v) -> document.append(k, redactValue(k, v)));
+            return document;
+        }
+        if (value.isArray()) {
+            List<Object> values = new ArrayList<>();
+            value.asArray().forEach(v -> values.add(redactValue(key, v)));
+            return values;
+        }
+        if (value.isString() && (STRUCTURAL_KEYS.contains(key) || value.asString().getValue().startsWith("$"))) {
+            return value.asString().getValue();
+        }
+        if (value.isNumber() || value.isBoolean() || value.isNull()) {
+            return plain(value);
+        }
+        return "?";
+    }
+
+    private static Object plain(BsonValue value) {
+        if (value.isString()) {
+            return value.asString().getValue();
+        }
+        if (value.isInt32()) {
+            return value.asInt32().getValue();
+        }
+        if (value.isInt64()) {
+            return value.asInt64().getValue();
+        }
+        if (value.isDouble()) {
+            return value.asDouble().getValue();
+        }
+        if (value.isBoolean()) {
+            return value.asBoolean().getValue();
+        }
+        if (value.isNull()) {
+            return null;
+        }
+        return "?";
+    }
+}
@@ -0,0 +1,9 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.TrainingSession;
+
+import java.util.List;
+
+public record ChildOverview(Child child, List<TrainingSession> recentSessions, List<WordErrorCount> failedWords) {
+}
@@ -2,15 +2,34 @@ package com.wordtrainer.repository;
 
 import com.wordtrainer.model.Child;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ChildRepository extends MongoRepository<Child, String> {
+public interface ChildRepository extends MongoRepository<Child, String>, ChildRepositoryCustom {
     List<Child> findByParentId(String parentId);
     Optional<Child> findByUsername(String username);
     boolean existsByUsername(String username);
-    void deleteByParentId(String parentId);
+    long deleteByParentId(String parentId);
+    boolean existsByIdAndDeletedAtIsNull(String id);
+
+    @Query(value = "{ 'parentId': ?0, 'deletedAt': null }", fields = "{ '_id': 1 }")
+    List<Child> findIdsByParentId(String parentId);
+
+    @Query("{ 'parentId': ?0 }")
+    @Update("{ '$set': { 'deletedAt': ?1 } }")
+    long markDeletedByParentId(String parentId, Instant deletedAt);
+
+    @Query(value = "{}", fields = "{ 'username': 1 }")
+    Stream<Child> streamAllUsernames();
+
+    @Query("{ 'version': { '$exists': false } }")
+    @Update("{ '$set': { 'version': 0 } }")
+    long initializeMissingVersions();
 }
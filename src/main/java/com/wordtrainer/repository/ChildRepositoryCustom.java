@@ -0,0 +1,15 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.Child;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ChildRepositoryCustom {
+    boolean recordTrainings(String childId, int trainings, int totalWords, int correctWords, Instant trainedAt);
+    /**
+     * Replaces the settings if their revision is still {@code expectedRevision}, bumping it and the child's version.
+     */
+    boolean updateSettings(String childId, Long expectedRevision, Child.Settings settings);
+    List<ChildOverview> findOverviewsByParentId(String parentId, int sessionsPerChild, int failedWordsPerChild);
+}
@@ -0,0 +1,122 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.TrainingSession;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+public class ChildRepositoryImpl implements ChildRepositoryCustom {
+
+    private static final long STREAK_WINDOW_MILLIS = Duration.ofDays(2).toMillis();
+
+    private final MongoTemplate mongoTemplate;
+
+    public ChildRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean recordTrainings(String childId, int trainings, int totalWords, int correctWords, Instant trainedAt) {
+        Date now = Date.from(trainedAt);
+        Document lastTraining = new Document("$ifNull", Arrays.asList("$stats.lastTrainingDate", null));
+
+        // The streak grows by one per training while the previous training is less than two days old,
+        // matching ChronoUnit.DAYS.between(last, now) <= 1, so a batch of N counts like N single saves.
+        Document continuesStreak = new Document("$and", List.of(
+                new Document("$ne", Arrays.asList(lastTraining, null)),
+                new Document("$lt", List.of(new Document("$subtract", List.of(now, lastTraining)), STREAK_WINDOW_MILLIS))
+        ));
+
+        Document set = new Document()
+                .append("stats.totalTrainings", increment("$stats.totalTrainings", trainings))
+                .append("stats.totalWords", increment("$stats.totalWords", totalWords))
+                .append("stats.correctWords", increment("$stats.correctWords", correctWords))
+                .append("stats.streak", new Document("$cond", List.of(
+                        continuesStreak, increment("$stats.streak", trainings), trainings)))
+                .append("stats.lastTrainingDate", now)
+                .append("updatedAt", now)
+                .append("version", increment("$version", 1));
+
+        AggregationOperation setStage = context -> new Document("$set", set);
+        Query query = Query.query(Criteria.where("_id").is(childId));
+
+        return mongoTemplate.updateFirst(query, AggregationUpdate.from(List.of(setStage)), Child.class)
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean updateSettings(String childId, Long expectedRevision, Child.Settings settings) {
+        Query query = Query.query(Criteria.where("_id").is(childId).and("settingsRevision").is(expectedRevision));
+        Update update = new Update()
+                .set("settings", settings)
+                .inc("settingsRevision", 1)
+                .inc("version", 1)
+                .set("updatedAt", Instant.now());
+        return mongoTemplate.updateFirst(query, update, Child.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public List<ChildOverview> findOverviewsByParentId(String parentId, int sessionsPerChild, int failedWordsPerChild) {
+        // Both lookups are equality joins on childId: each child costs a bounded walk of child_created and
+        // the child's missed words on child_errors instead of a scan of its history. Stats are kept per list,
+        // so failed words are summed per word before the top ones are kept.
+        AggregationOperation matchParent = context -> new Document("$match", new Document("parentId", parentId));
+        AggregationOperation oldestFirst = context -> new Document("$sort", new Document("createdAt", 1));
+        AggregationOperation childIdAsString = context -> new Document("$set",
+                new Document("childKey", new Document("$toString", "$_id")));
+        AggregationOperation recentSessions = context -> new Document("$lookup", new Document()
+                .append("from", "training_sessions")
+                .append("localField", "childKey")
+                .append("foreignField", "childId")
+                .append("pipeline", List.of(
+                        new Document("$sort", new Document("createdAt", -1).append("_id", -1)),
+                        new Document("$limit", sessionsPerChild),
+                        new Document("$project", new Document("results", 0))))
+                .append("as", "recentSessions"));
+        AggregationOperation failedWords = context -> new Document("$lookup", new Document()
+                .append("from", "word_stats")
+                .append("localField", "childKey")
+                .append("foreignField", "childId")
+                .append("pipeline", List.of(
+                        new Document("$match", new Document("errors", new Document("$gt", 0))),
+                        new Document("$group", new Document("_id", "$word").append("count", new Document("$sum", "$errors"))),
+                        new Document("$sort", new Document("count", -1).append("_id", 1)),
+                        new Document("$limit", failedWordsPerChild),
+                        new Document("$project", new Document("_id", 0).append("word", "$_id").append("count", 1))))
+                .append("as", "failedWords"));
+        AggregationOperation withoutSecrets = context -> new Document("$project",
+                new Document("passwordHash", 0).append("childKey", 0));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                matchParent, oldestFirst, childIdAsString, recentSessions, failedWords, withoutSecrets);
+
+        MongoConverter converter = mongoTemplate.getConverter();
+        return mongoTemplate.aggregate(aggregation, "children", Document.class).getMappedResults().stream()
+                .map(document -> new ChildOverview(
+                        converter.read(Child.class, document),
+                        document.getList("recentSessions", Document.class).stream()
+                                .map(session -> converter.read(TrainingSession.class, session))
+                                .toList(),
+                        document.getList("failedWords", Document.class).stream()
+                                .map(word -> new WordErrorCount(word.getString("word"), word.get("count", Number.class).intValue()))
+                                .toList()))
+                .toList();
+    }
+
+    private static Document increment(String field, int amount) {
+        return new Document("$add", List.of(new Document("$ifNull", List.of(field, 0)), amount));
+    }
+}
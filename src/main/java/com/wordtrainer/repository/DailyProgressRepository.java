@@ -0,0 +1,17 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.DailyProgress;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DailyProgressRepository extends MongoRepository<DailyProgress, String>, DailyProgressRepositoryCustom {
+
+    @Query(value = "{ 'childId': ?0, 'day': { '$gte': ?1, '$lte': ?2 } }", sort = "{ 'day': 1 }")
+    List<DailyProgress> findRange(String childId, String fromDay, String toDay);
+
+    long deleteByChildId(String childId);
+}
@@ -0,0 +1,16 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.TrainingSession;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+public interface DailyProgressRepositoryCustom {
+    void recordSessions(String childId, List<TrainingSession> sessions, ZoneId zone);
+
+    /**
+     * Replaces the rollup of every day before {@code day} with totals recomputed from the stored sessions.
+     */
+    void rebuildDaysBefore(LocalDate day, ZoneId zone);
+}
@@ -0,0 +1,126 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.DailyProgress;
+import com.wordtrainer.model.TrainingSession;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DailyProgressRepositoryImpl implements DailyProgressRepositoryCustom {
+
+    private static final String SESSIONS_COLLECTION = "training_sessions";
+    private static final String COLLECTION = "daily_progress";
+
+    private final MongoTemplate mongoTemplate;
+
+    public DailyProgressRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void recordSessions(String childId, List<TrainingSession> sessions, ZoneId zone) {
+        Map<String, Update> updates = new LinkedHashMap<>();
+        for (TrainingSession session : sessions) {
+            Instant createdAt = session.getCreatedAt() != null ? session.getCreatedAt() : Instant.now();
+            String day = LocalDate.ofInstant(createdAt, zone).toString();
+            String type = "byType." + typeKey(session.getTrainingType());
+            int words = session.getTotalWords() != null ? session.getTotalWords() : 0;
+            int correct = session.getCorrectCount() != null ? session.getCorrectCount() : 0;
+            int duration = session.getDurationSeconds() != null ? session.getDurationSeconds() : 0;
+
+            updates.computeIfAbsent(day, d -> new Update())
+                    .inc("sessions", 1)
+                    .inc("words", words)
+                    .inc("correct", correct)
+                    .inc("durationSeconds", duration)
+                    .inc(type + ".sessions", 1)
+                    .inc(type + ".words", words)
+                    .inc(type + ".correct", correct);
+        }
+        if (updates.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DailyProgress.class);
+        updates.forEach((day, update) -> bulk.upsert(
+                Query.query(Criteria.where("childId").is(childId).and("day").is(day)), update));
+        bulk.execute();
+    }
+
+    @Override
+    public void rebuildDaysBefore(LocalDate before, ZoneId zone) {
+        Document trimmedType = new Document("$trim", new Document("input", new Document("$ifNull", List.of("$trainingType", ""))));
+        Document rawType = new Document("$cond", List.of(
+                new Document("$gt", List.of(new Document("$strLenCP", trimmedType), 0)), "$trainingType", "unknown"));
+        Document type = replaceAll(replaceAll(rawType, "."), "$");
+        Document day = new Document("$dateToString", new Document()
+                .append("format", "%Y-%m-%d")
+                .append("date", "$createdAt")
+                .append("timezone", zone.getId()));
+
+        AggregationOperation datedOnly = context -> new Document("$match",
+                new Document("createdAt", new Document("$type", "date")
+                        .append("$lt", Date.from(before.atStartOfDay(zone).toInstant()))));
+        AggregationOperation groupByType = context -> new Document("$group", new Document()
+                .append("_id", new Document("childId", "$childId").append("day", day).append("type", type))
+                .append("sessions", new Document("$sum", 1))
+                .append("words", new Document("$sum", new Document("$ifNull", List.of("$totalWords", 0))))
+                .append("correct", new Document("$sum", new Document("$ifNull", List.of("$correctCount", 0))))
+                .append("durationSeconds", new Document("$sum", new Document("$ifNull", List.of("$durationSeconds", 0)))));
+        AggregationOperation groupByDay = context -> new Document("$group", new Document()
+                .append("_id", new Document("childId", "$_id.childId").append("day", "$_id.day"))
+                .append("sessions", new Document("$sum", "$sessions"))
+                .append("words", new Document("$sum", "$words"))
+                .append("correct", new Document("$sum", "$correct"))
+                .append("durationSeconds", new Document("$sum", "$durationSeconds"))
+                .append("byType", new Document("$push", new Document()
+                        .append("k", "$_id.type")
+                        .append("v", new Document("sessions", "$sessions")
+                                .append("words", "$words")
+                                .append("correct", "$correct")))));
+        AggregationOperation shape = context -> new Document("$project", new Document()
+                .append("_id", 0)
+                .append("childId", "$_id.childId")
+                .append("day", "$_id.day")
+                .append("sessions", 1)
+                .append("words", 1)
+                .append("correct", 1)
+                .append("durationSeconds", 1)
+                .append("byType", new Document("$arrayToObject", "$byType")));
+        AggregationOperation merge = context -> new Document("$merge", new Document()
+                .append("into", COLLECTION)
+                .append("on", List.of("childId", "day"))
+                .append("whenMatched", "replace")
+                .append("whenNotMatched", "insert"));
+
+        Aggregation aggregation = Aggregation.newAggregation(datedOnly, groupByType, groupByDay, shape, merge)
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        mongoTemplate.aggregate(aggregation, SESSIONS_COLLECTION, Document.class);
+    }
+
+    private static Document replaceAll(Object input, String character) {
+        return new Document("$replaceAll", new Document()
+                .append("input", input)
+                .append("find", new Document("$literal", character))
+                .append("replacement", "_"));
+    }
+
+    private static String typeKey(String trainingType) {
+        if (trainingType == null || trainingType.isBlank()) {
+            return "unknown";
+        }
+        return trainingType.replace('.', '_').replace('$', '_');
+    }
+}
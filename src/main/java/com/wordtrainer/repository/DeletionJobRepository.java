@@ -0,0 +1,9 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.DeletionJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeletionJobRepository extends MongoRepository<DeletionJob, String>, DeletionJobRepositoryCustom {
+}
@@ -0,0 +1,14 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.DeletionJob;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface DeletionJobRepositoryCustom {
+    Optional<DeletionJob> claimNext(Instant now, Instant lockedUntil);
+    void recordProgress(String jobId, String collection, long deleted, Instant lockedUntil);
+    void markCompleted(String jobId, Instant completedAt);
+    void recordFailure(String jobId, String error, Instant retryAt);
+    void markFailed(String jobId, String error);
+}
@@ -0,0 +1,77 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.DeletionJob;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public class DeletionJobRepositoryImpl implements DeletionJobRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public DeletionJobRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<DeletionJob> claimNext(Instant now, Instant lockedUntil) {
+        Query query = Query.query(Criteria.where("status").in(List.of(DeletionJob.Status.PENDING, DeletionJob.Status.RUNNING))
+                        .orOperator(
+                                Criteria.where("lockedUntil").is(null),
+                                Criteria.where("lockedUntil").lt(now)))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        Update update = new Update()
+                .set("status", DeletionJob.Status.RUNNING)
+                .set("lockedUntil", lockedUntil)
+                .set("updatedAt", now)
+                .inc("attempts", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), DeletionJob.class));
+    }
+
+    @Override
+    public void recordProgress(String jobId, String collection, long deleted, Instant lockedUntil) {
+        Update update = new Update()
+                .inc("deletedCounts." + collection, deleted)
+                .set("lockedUntil", lockedUntil)
+                .set("updatedAt", Instant.now());
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(jobId)), update, DeletionJob.class);
+    }
+
+    @Override
+    public void markCompleted(String jobId, Instant completedAt) {
+        Update update = new Update()
+                .set("status", DeletionJob.Status.COMPLETED)
+                .set("completedAt", completedAt)
+                .set("updatedAt", completedAt)
+                .unset("lockedUntil");
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(jobId)), update, DeletionJob.class);
+    }
+
+    @Override
+    public void recordFailure(String jobId, String error, Instant retryAt) {
+        Update update = new Update()
+                .set("lastError", error)
+                .set("lockedUntil", retryAt)
+                .set("updatedAt", Instant.now());
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(jobId)), update, DeletionJob.class);
+    }
+
+    @Override
+    public void markFailed(String jobId, String error) {
+        Update update = new Update()
+                .set("status", DeletionJob.Status.FAILED)
+                .set("lastError", error)
+                .set("updatedAt", Instant.now())
+                .unset("lockedUntil");
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(jobId)), update, DeletionJob.class);
+    }
+}
@@ -2,12 +2,20 @@ package com.wordtrainer.repository;
 
 import com.wordtrainer.model.Parent;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface ParentRepository extends MongoRepository<Parent, String> {
     Optional<Parent> findByEmail(String email);
     boolean existsByEmail(String email);
+    boolean existsByIdAndDeletedAtIsNull(String id);
+
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'deletedAt': ?1 } }")
+    long markDeleted(String parentId, Instant deletedAt);
 }
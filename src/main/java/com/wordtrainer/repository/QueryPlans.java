@@ -0,0 +1,90 @@
+package com.wordtrainer.repository;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the winning plan out of an {@code explain} result (classic and slot-based engines, find and aggregate).
+ */
+public final class QueryPlans {
+
+    private QueryPlans() {
+    }
+
+    /**
+     * Stage names of the winning plan, outermost first. Aggregations add their pipeline stages
+     * ({@code $group}, {@code $sort}, ...) after the plan of the initial cursor.
+     */
+    public static List<String> stages(BsonDocument explainResult) {
+        List<String> stages = new ArrayList<>();
+        if (explainResult.isDocument("queryPlanner")) {
+            collectStages(explainResult.getDocument("queryPlanner").get("winningPlan"), stages);
+        }
+        if (explainResult.isArray("stages")) {
+            for (BsonValue stage : explainResult.getArray("stages")) {
+                if (!stage.isDocument() || stage.asDocument().isEmpty()) {
+                    continue;
+                }
+                String name = stage.asDocument().getFirstKey();
+                if (name.equals("$cursor") && stage.asDocument().getDocument("$cursor").isDocument("queryPlanner")) {
+                    collectStages(stage.asDocument().getDocument("$cursor").getDocument("queryPlanner")
+                            .get("winningPlan"), stages);
+                } else {
+                    stages.add(name);
+                }
+            }
+        }
+        return stages;
+    }
+
+    private static void collectStages(BsonValue plan, List<String> stages) {
+        if (plan == null || !plan.isDocument()) {
+            return;
+        }
+        BsonDocument node = plan.asDocument();
+        if (node.isDocument("queryPlan")) {
+            // Slot-based engine: the classic-style plan tree sits under queryPlan
+            collectStages(node.get("queryPlan"), stages);
+            return;
+        }
+        if (node.isString("stage")) {
+            stages.add(node.getString("stage").getValue());
+        }
+        collectStages(node.get("inputStage"), stages);
+        if (node.isArray("inputStages")) {
+            node.getArray("inputStages").forEach(input -> collectStages(input, stages));
+        }
+    }
+
+    public static boolean isCollectionScan(List<String> stages) {
+        return stages.contains("COLLSCAN");
+    }
+
+    /**
+     * True when documents are sorted in memory. Sorting the output of a group is not flagged: it orders one entry
+     * per group, bounded by the grouped documents the index already selected, and no index can serve it.
+     */
+    public static boolean isInMemorySort(List<String> stages) {
+        for (int i = 0; i < stages.size(); i++) {
+            // Plan stages are listed outermost first, pipeline stages in pipeline order after the plan
+            if (stages.get(i).equals("SORT") && !stages.subList(i + 1, stages.size()).contains("GROUP")) {
+                return true;
+            }
+            if (stages.get(i).equals("$sort") && !stages.subList(0, i).contains("GROUP")
+                    && !stages.subList(0, i).contains("$group")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * True when the query touched no collection at all (the collection does not exist yet).
+     */
+    public static boolean isEmpty(List<String> stages) {
+        return stages.equals(List.of("EOF"));
+    }
+}
@@ -0,0 +1,15 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.TrainingSession;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TrainingSessionRepositoryCustom {
+    List<TrainingSession> findHistoryPage(String childId, String listId, Instant beforeCreatedAt, String beforeId, int limit);
+    Stream<TrainingSession> streamHistory(String childId, String listId);
+    List<WordErrorCount> findTopFailedWords(String childId, String listId, int limit);
+    long deleteChunkByChildId(String childId, int chunkSize);
+    long deleteChunkByListId(String listId, int chunkSize);
+}
@@ -0,0 +1,104 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.TrainingSession;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+public class TrainingSessionRepositoryImpl implements TrainingSessionRepositoryCustom {
+
+    private static final String COLLECTION = "training_sessions";
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    public TrainingSessionRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<TrainingSession> findHistoryPage(String childId, String listId, Instant beforeCreatedAt, String beforeId,
+                                                 int limit) {
+        Criteria criteria = Criteria.where("childId").is(childId);
+        if (listId != null && !listId.isBlank()) {
+            criteria = criteria.and("listId").is(listId);
+        }
+        if (beforeCreatedAt != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(beforeCreatedAt),
+                    Criteria.where("createdAt").is(beforeCreatedAt).and("id").lt(beforeId));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(limit);
+        return mongoTemplate.find(query, TrainingSession.class);
+    }
+
+    @Override
+    public Stream<TrainingSession> streamHistory(String childId, String listId) {
+        Criteria criteria = Criteria.where("childId").is(childId);
+        if (listId != null && !listId.isBlank()) {
+            criteria = criteria.and("listId").is(listId);
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "createdAt", "id"))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, TrainingSession.class);
+    }
+
+    @Override
+    public List<WordErrorCount> findTopFailedWords(String childId, String listId, int limit) {
+        Criteria sessionCriteria = Criteria.where("childId").is(childId);
+        if (listId != null && !listId.isBlank()) {
+            sessionCriteria = sessionCriteria.and("listId").is(listId);
+        }
+
+        Aggregation aggregation = newAggregation(
+                match(sessionCriteria),
+                project("results"),
+                unwind("results"),
+                match(Criteria.where("results.correct").ne(true)),
+                group("results.word").count().as("count"),
+                sort(Sort.by(Sort.Direction.DESC, "count").and(Sort.by(Sort.Direction.ASC, "_id"))),
+                limit(limit),
+                project("count").and("_id").as("word")
+        );
+
+        return mongoTemplate.aggregate(aggregation, TrainingSession.class, WordErrorCount.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public long deleteChunkByChildId(String childId, int chunkSize) {
+        return deleteChunk(Criteria.where("childId").is(childId), chunkSize);
+    }
+
+    @Override
+    public long deleteChunkByListId(String listId, int chunkSize) {
+        return deleteChunk(Criteria.where("listId").is(listId), chunkSize);
+    }
+
+    private long deleteChunk(Criteria criteria, int chunkSize) {
+        Query idQuery = Query.query(criteria).limit(chunkSize);
+        idQuery.fields().include("_id");
+
+        List<Object> ids = mongoTemplate.find(idQuery, Document.class, COLLECTION).stream()
+                .map(document -> document.get("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), COLLECTION).getDeletedCount();
+    }
+}
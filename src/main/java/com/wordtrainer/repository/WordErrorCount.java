@@ -0,0 +1,4 @@
+package com.wordtrainer.repository;
+
+public record WordErrorCount(String word, int count) {
+}
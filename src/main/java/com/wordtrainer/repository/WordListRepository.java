@@ -2,6 +2,8 @@ package com.wordtrainer.repository;
 
 import com.wordtrainer.model.WordList;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,6 +11,14 @@ import java.util.List;
 @Repository
 public interface WordListRepository extends MongoRepository<WordList, String> {
     List<WordList> findByChildId(String childId);
-    void deleteByChildId(String childId);
+    long deleteByChildId(String childId);
     long countByChildId(String childId);
+
+    @Query("{ 'version': { '$exists': false } }")
+    @Update("{ '$set': { 'version': 0 } }")
+    long initializeMissingVersions();
+
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'wordsScheduled': true } }")
+    long markWordsScheduled(String listId);
 }
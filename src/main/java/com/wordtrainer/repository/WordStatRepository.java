@@ -0,0 +1,33 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.WordStat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WordStatRepository extends MongoRepository<WordStat, String>, WordStatRepositoryCustom {
+    // Rows seeded for words that were never answered are scheduling state, not statistics.
+    @Query(value = "{ 'childId': ?0, 'attempts': { '$gt': 0 } }", sort = "{ 'errors': -1 }")
+    List<WordStat> findByChildIdOrderByErrorsDesc(String childId, Pageable pageable);
+
+    @Query(value = "{ 'childId': ?0, 'listId': ?1, 'attempts': { '$gt': 0 } }", sort = "{ 'errors': -1 }")
+    List<WordStat> findByChildIdAndListIdOrderByErrorsDesc(String childId, String listId, Pageable pageable);
+
+    List<WordStat> findByChildIdAndListIdAndDueAtLessThanEqualOrderByDueAtAsc(
+            String childId, String listId, Instant dueBefore, Pageable pageable);
+    List<WordStat> findByChildIdAndListIdAndDueAtIsNull(String childId, String listId, Pageable pageable);
+
+    List<WordStat> findByChildIdAndListId(String childId, String listId);
+
+    Optional<WordStat> findByChildIdAndListIdAndWord(String childId, String listId, String word);
+    long deleteByChildId(String childId);
+    long deleteByChildIdAndListId(String childId, String listId);
+    long deleteByChildIdAndListIdAndWordIn(String childId, String listId, Collection<String> words);
+}
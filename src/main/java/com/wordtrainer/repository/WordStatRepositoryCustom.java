@@ -0,0 +1,13 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.TrainingSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface WordStatRepositoryCustom {
+    void seedWords(String childId, String listId, Collection<String> words);
+    void recordSessions(String childId, List<TrainingSession> sessions, Instant seenAt, List<Duration> boxIntervals);
+}
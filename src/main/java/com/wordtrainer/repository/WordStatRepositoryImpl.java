@@ -0,0 +1,118 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.model.WordStat;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class WordStatRepositoryImpl implements WordStatRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public WordStatRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Unseen words get a row with no dueAt, which puts them at the head of child_list_due without
+    // touching rows that already carry a schedule.
+    @Override
+    public void seedWords(String childId, String listId, Collection<String> words) {
+        if (words.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WordStat.class);
+        for (String word : words) {
+            Query query = Query.query(Criteria.where("childId").is(childId)
+                    .and("listId").is(listId)
+                    .and("word").is(word));
+            bulk.upsert(query, new Update().setOnInsert("attempts", 0).setOnInsert("errors", 0));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public void recordSessions(String childId, List<TrainingSession> sessions, Instant seenAt, List<Duration> boxIntervals) {
+        Map<ListWord, WordTally> tallies = new LinkedHashMap<>();
+        for (TrainingSession session : sessions) {
+            for (TrainingSession.Result result : session.getResults()) {
+                if (result.getWord() == null) continue;
+                tallies.computeIfAbsent(new ListWord(session.getListId(), result.getWord()), k -> new WordTally())
+                        .add(Boolean.TRUE.equals(result.getCorrect()));
+            }
+        }
+        if (tallies.isEmpty()) return;
+
+        Date now = Date.from(seenAt);
+        List<Long> intervalMillis = boxIntervals.stream().map(Duration::toMillis).toList();
+        int maxBox = intervalMillis.size() - 1;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WordStat.class);
+        tallies.forEach((key, tally) -> {
+            Query query = Query.query(Criteria.where("childId").is(childId)
+                    .and("listId").is(key.listId())
+                    .and("word").is(key.word()));
+            bulk.upsert(query, scheduleUpdate(tally, now, intervalMillis, maxBox));
+        });
+        bulk.execute();
+    }
+
+    // Leitner boxes: every correct answer moves the word up one box, a mistake sends it back to box 0.
+    // Replaying a batch in order comes down to "correct answers since the last mistake", so the whole
+    // transition is a single pipeline update and dueAt is derived from the new box server-side.
+    private static AggregationUpdate scheduleUpdate(WordTally tally, Date now, List<Long> intervalMillis, int maxBox) {
+        Object box = tally.errors > 0
+                ? tally.correctStreak
+                : new Document("$add", List.of(new Document("$ifNull", List.of("$box", 0)), tally.correctStreak));
+
+        Document counters = new Document()
+                .append("attempts", increment("$attempts", tally.attempts))
+                .append("errors", increment("$errors", tally.errors))
+                .append("lastSeen", now)
+                .append("lastResult", tally.lastResult)
+                .append("box", new Document("$min", List.of(box, maxBox)));
+        Document schedule = new Document("dueAt",
+                new Document("$add", List.of(now, new Document("$arrayElemAt", List.of(intervalMillis, "$box")))));
+
+        AggregationOperation countersStage = context -> new Document("$set", counters);
+        AggregationOperation scheduleStage = context -> new Document("$set", schedule);
+        return AggregationUpdate.from(List.of(countersStage, scheduleStage));
+    }
+
+    private static Document increment(String field, int amount) {
+        return new Document("$add", List.of(new Document("$ifNull", List.of(field, 0)), amount));
+    }
+
+    private record ListWord(String listId, String word) {
+    }
+
+    private static class WordTally {
+        private int attempts;
+        private int errors;
+        private int correctStreak;
+        private boolean lastResult;
+
+        private void add(boolean correct) {
+            attempts++;
+            if (correct) {
+                correctStreak++;
+            } else {
+                errors++;
+                correctStreak = 0;
+            }
+            lastResult = correct;
+        }
+    }
+}
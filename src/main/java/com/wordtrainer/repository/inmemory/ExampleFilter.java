@@ -0,0 +1,101 @@
+package com.wordtrainer.repository.inmemory;
+
+import org.bson.Document;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.support.ExampleMatcherAccessor;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Query by example over mapped documents, following what Spring Data MongoDB sends to the server: every
+ * non-null probe field, nested ones by dotted path, is a condition, combined as the matcher's all/any mode asks,
+ * with its per-path string matching, case handling, value transformers and ignored paths.
+ */
+final class ExampleFilter {
+
+    private ExampleFilter() {
+    }
+
+    static Predicate<Document> of(Document probe, ExampleMatcher matcher, String idProperty, List<String> nullProperties) {
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(matcher);
+        List<Predicate<Document>> conditions = new ArrayList<>();
+        List<Map.Entry<String, Object>> values = new ArrayList<>();
+        flatten("", probe, values);
+        if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+            nullProperties.forEach(property -> values.add(new AbstractMap.SimpleEntry<>(property, null)));
+        }
+
+        for (Map.Entry<String, Object> value : values) {
+            String field = value.getKey();
+            String path = field.equals("_id") ? idProperty : field;
+            if (accessor.isIgnoredPath(path)) {
+                continue;
+            }
+            Object expected = accessor.getValueTransformerForPath(path)
+                    .apply(Optional.ofNullable(value.getValue()))
+                    .orElse(null);
+            ExampleMatcher.StringMatcher stringMatcher = accessor.getStringMatcherForPath(path);
+            boolean ignoreCase = accessor.isIgnoreCaseForPath(path);
+            List<String> keys = List.of(field.split("\\."));
+            conditions.add(document -> matches(valueAt(document, keys), expected, stringMatcher, ignoreCase));
+        }
+
+        if (conditions.isEmpty()) {
+            return document -> true;
+        }
+        return matcher.isAllMatching()
+                ? document -> conditions.stream().allMatch(condition -> condition.test(document))
+                : document -> conditions.stream().anyMatch(condition -> condition.test(document));
+    }
+
+    private static void flatten(String prefix, Document document, List<Map.Entry<String, Object>> values) {
+        document.forEach((key, value) -> {
+            if (key.equals("_class")) {
+                return;
+            }
+            if (value instanceof Document nested) {
+                flatten(prefix + key + ".", nested, values);
+            } else {
+                values.add(new AbstractMap.SimpleEntry<>(prefix + key, value));
+            }
+        });
+    }
+
+    private static Object valueAt(Document document, List<String> keys) {
+        Object value = document;
+        for (String key : keys) {
+            if (!(value instanceof Document current)) {
+                return null;
+            }
+            value = current.get(key);
+        }
+        return value;
+    }
+
+    private static boolean matches(Object actual, Object expected, ExampleMatcher.StringMatcher stringMatcher,
+                                   boolean ignoreCase) {
+        if (!(expected instanceof String text) || !(actual instanceof String candidate)) {
+            return Objects.equals(actual, expected);
+        }
+        if (stringMatcher == ExampleMatcher.StringMatcher.REGEX) {
+            return Pattern.compile(text, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0)
+                    .matcher(candidate).find();
+        }
+        String wanted = ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+        String value = ignoreCase ? candidate.toLowerCase(Locale.ROOT) : candidate;
+        return switch (stringMatcher) {
+            case STARTING -> value.startsWith(wanted);
+            case ENDING -> value.endsWith(wanted);
+            case CONTAINING -> value.contains(wanted);
+            default -> value.equals(wanted);
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.wordtrainer.repository.inmemory;
+
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.ChildOverview;
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.WordErrorCount;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class InMemoryChildRepository extends InMemoryRepository<Child> implements ChildRepository {
+
+    private static final Duration STREAK_WINDOW = Duration.ofDays(2);
+
+    private final InMemoryTrainingSessionRepository sessionRepository;
+    private final InMemoryWordStatRepository wordStatRepository;
+
+    public InMemoryChildRepository(MongoConverter converter, InMemoryTrainingSessionRepository sessionRepository,
+                                   InMemoryWordStatRepository wordStatRepository) {
+        super(Child.class, converter, Child::getParentId, Child::getUsername);
+        this.sessionRepository = sessionRepository;
+        this.wordStatRepository = wordStatRepository;
+    }
+
+    @Override
+    public List<Child> findByParentId(String parentId) {
+        return partition(parentId).map(this::copy).toList();
+    }
+
+    @Override
+    public Optional<Child> findByUsername(String username) {
+        return findByNaturalKey(username);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return findByNaturalKey(username).isPresent();
+    }
+
+    @Override
+    public long deleteByParentId(String parentId) {
+        return deleteWhere(partition(parentId));
+    }
+
+    @Override
+    public boolean existsByIdAndDeletedAtIsNull(String id) {
+        Child child = store.get(id);
+        return child != null && child.getDeletedAt() == null;
+    }
+
+    @Override
+    public List<Child> findIdsByParentId(String parentId) {
+        return partition(parentId)
+                .filter(child -> child.getDeletedAt() == null)
+                .map(child -> Child.builder().id(child.getId()).build())
+                .toList();
+    }
+
+    @Override
+    public long markDeletedByParentId(String parentId, Instant deletedAt) {
+        return partition(parentId).filter(child -> patch(child.getId(), stored -> {
+            stored.setDeletedAt(deletedAt);
+            return stored;
+        })).count();
+    }
+
+    @Override
+    public Stream<Child> streamAllUsernames() {
+        return all().map(child -> Child.builder().id(child.getId()).username(child.getUsername()).build());
+    }
+
+    @Override
+    public long initializeMissingVersions() {
+        return 0;
+    }
+
+    @Override
+    public boolean recordTrainings(String childId, int trainings, int totalWords, int correctWords, Instant trainedAt) {
+        return update(childId, child -> {
+            Child.Stats stats = child.getStats() != null ? child.getStats() : new Child.Stats();
+            Instant lastTraining = stats.getLastTrainingDate();
+            boolean continuesStreak = lastTraining != null
+                    && Duration.between(lastTraining, trainedAt).compareTo(STREAK_WINDOW) < 0;
+            stats.setTotalTrainings(orZero(stats.getTotalTrainings()) + trainings);
+            stats.setTotalWords(orZero(stats.getTotalWords()) + totalWords);
+            stats.setCorrectWords(orZero(stats.getCorrectWords()) + correctWords);
+            stats.setStreak(continuesStreak ? orZero(stats.getStreak()) + trainings : trainings);
+            stats.setLastTrainingDate(trainedAt);
+            child.setStats(stats);
+            return child;
+        });
+    }
+
+    @Override
+    public boolean updateSettings(String childId, Long expectedRevision, Child.Settings settings) {
+        return updateIf(childId, child -> Objects.equals(child.getSettingsRevision(), expectedRevision), child -> {
+            child.setSettings(settings);
+            child.setSettingsRevision((expectedRevision != null ? expectedRevision : 0) + 1);
+            return child;
+        });
+    }
+
+    @Override
+    public List<ChildOverview> findOverviewsByParentId(String parentId, int sessionsPerChild, int failedWordsPerChild) {
+        List<ChildOverview> overviews = new ArrayList<>();
+        partition(parentId)
+                .sorted(Comparator.comparing(Child::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(stored -> {
+                    Child child = copy(stored);
+                    child.setPasswordHash(null);
+                    List<TrainingSession> recentSessions = sessionRepository
+                            .findHistoryPage(child.getId(), null, null, null, sessionsPerChild).stream()
+                            .peek(session -> session.setResults(new ArrayList<>()))
+                            .toList();
+                    List<WordErrorCount> failedWords =
+                            wordStatRepository.findTopFailedWords(child.getId(), failedWordsPerChild);
+                    overviews.add(new ChildOverview(child, recentSessions, failedWords));
+                });
+        return overviews;
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,87 @@
+package com.wordtrainer.repository.inmemory;
+
+import com.wordtrainer.model.DailyProgress;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.DailyProgressRepository;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+public class InMemoryDailyProgressRepository extends InMemoryRepository<DailyProgress> implements DailyProgressRepository {
+
+    private final InMemoryTrainingSessionRepository sessionRepository;
+
+    public InMemoryDailyProgressRepository(MongoConverter converter, InMemoryTrainingSessionRepository sessionRepository) {
+        super(DailyProgress.class, converter, DailyProgress::getChildId,
+                progress -> new DayKey(progress.getChildId(), progress.getDay()));
+        this.sessionRepository = sessionRepository;
+    }
+
+    @Override
+    public List<DailyProgress> findRange(String childId, String fromDay, String toDay) {
+        return partition(childId)
+                .filter(progress -> progress.getDay().compareTo(fromDay) >= 0 && progress.getDay().compareTo(toDay) <= 0)
+                .sorted(Comparator.comparing(DailyProgress::getDay))
+                .map(this::copy)
+                .toList();
+    }
+
+    @Override
+    public long deleteByChildId(String childId) {
+        return deleteWhere(partition(childId));
+    }
+
+    @Override
+    public void recordSessions(String childId, List<TrainingSession> sessions, ZoneId zone) {
+        for (TrainingSession session : sessions) {
+            Instant createdAt = session.getCreatedAt() != null ? session.getCreatedAt() : Instant.now();
+            record(childId, LocalDate.ofInstant(createdAt, zone).toString(), session);
+        }
+    }
+
+    @Override
+    public void rebuildDaysBefore(LocalDate before, ZoneId zone) {
+        String beforeDay = before.toString();
+        Instant cutoff = before.atStartOfDay(zone).toInstant();
+        deleteWhere(all().filter(progress -> progress.getDay().compareTo(beforeDay) < 0));
+        sessionRepository.all()
+                .filter(session -> session.getCreatedAt() != null && session.getCreatedAt().isBefore(cutoff))
+                .forEach(session -> record(session.getChildId(),
+                        LocalDate.ofInstant(session.getCreatedAt(), zone).toString(), session));
+    }
+
+    private void record(String childId, String day, TrainingSession session) {
+        int words = session.getTotalWords() != null ? session.getTotalWords() : 0;
+        int correct = session.getCorrectCount() != null ? session.getCorrectCount() : 0;
+        int duration = session.getDurationSeconds() != null ? session.getDurationSeconds() : 0;
+        upsert(new DayKey(childId, day),
+                () -> DailyProgress.builder().childId(childId).day(day).byType(new HashMap<>()).build(),
+                progress -> {
+                    progress.setSessions(progress.getSessions() + 1);
+                    progress.setWords(progress.getWords() + words);
+                    progress.setCorrect(progress.getCorrect() + correct);
+                    progress.setDurationSeconds(progress.getDurationSeconds() + duration);
+                    DailyProgress.TypeProgress type = progress.getByType()
+                            .computeIfAbsent(typeKey(session.getTrainingType()), k -> new DailyProgress.TypeProgress());
+                    type.setSessions(type.getSessions() + 1);
+                    type.setWords(type.getWords() + words);
+                    type.setCorrect(type.getCorrect() + correct);
+                    return progress;
+                });
+    }
+
+    private static String typeKey(String trainingType) {
+        if (trainingType == null || trainingType.isBlank()) {
+            return "unknown";
+        }
+        return trainingType.replace('.', '_').replace('$', '_');
+    }
+
+    private record DayKey(String childId, String day) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.wordtrainer.repository.inmemory;
+
+import com.wordtrainer.model.DeletionJob;
+import com.wordtrainer.repository.DeletionJobRepository;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryDeletionJobRepository extends InMemoryRepository<DeletionJob> implements DeletionJobRepository {
+
+    private static final List<DeletionJob.Status> CLAIMABLE = List.of(DeletionJob.Status.PENDING, DeletionJob.Status.RUNNING);
+
+    public InMemoryDeletionJobRepository(MongoConverter converter) {
+        super(DeletionJob.class, converter, null, null);
+    }
+
+    @Override
+    public synchronized Optional<DeletionJob> claimNext(Instant now, Instant lockedUntil) {
+        Optional<String> next = all()
+                .filter(job -> CLAIMABLE.contains(job.getStatus()))
+                .filter(job -> job.getLockedUntil() == null || job.getLockedUntil().isBefore(now))
+                .sorted(Comparator.comparing(DeletionJob::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .map(DeletionJob::getId)
+                .findFirst();
+        next.ifPresent(id -> update(id, job -> {
+            job.setStatus(DeletionJob.Status.RUNNING);
+            job.setLockedUntil(lockedUntil);
+            job.setAttempts(job.getAttempts() + 1);
+            return job;
+        }));
+        return next.flatMap(this::findById);
+    }
+
+    @Override
+    public void recordProgress(String jobId, String collection, long deleted, Instant lockedUntil) {
+        update(jobId, job -> {
+            job.getDeletedCounts().merge(collection, deleted, Long::sum);
+            job.setLockedUntil(lockedUntil);
+            return job;
+        });
+    }
+
+    @Override
+    public void markCompleted(String jobId, Instant completedAt) {
+        update(jobId, job -> {
+            job.setStatus(DeletionJob.Status.COMPLETED);
+            job.setCompletedAt(completedAt);
+            job.setLockedUntil(null);
+            return job;
+        });
+    }
+
+    @Override
+    public void recordFailure(String jobId, String error, Instant retryAt) {
+        update(jobId, job -> {
+            job.setLastError(error);
+            job.setLockedUntil(retryAt);
+            return job;
+        });
+    }
+
+    @Override
+    public void markFailed(String jobId, String error) {
+        update(jobId, job -> {
+            job.setStatus(DeletionJob.Status.FAILED);
+            job.setLastError(error);
+            job.setLockedUntil(null);
+            return job;
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.wordtrainer.repository.inmemory;
+
+import com.wordtrainer.model.Parent;
+import com.wordtrainer.repository.ParentRepository;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public class InMemoryParentRepository extends InMemoryRepository<Parent> implements ParentRepository {
+
+    public InMemoryParentRepository(MongoConverter converter) {
+        super(Parent.class, converter, null, Parent::getEmail);
+    }
+
+    @Override
+    public Optional<Parent> findByEmail(String email) {
+        return findByNaturalKey(email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findByNaturalKey(email).isPresent();
+    }
+
+    @Override
+    public boolean existsByIdAndDeletedAtIsNull(String id) {
+        Parent parent = store.get(id);
+        return parent != null && parent.getDeletedAt() == null;
+    }
+
+    @Override
+    public long markDeleted(String parentId, Instant deletedAt) {
+        return patch(parentId, parent -> {
+            parent.setDeletedAt(deletedAt);
+            return parent;
+        }) ? 1 : 0;
+    }
+}
@@ -0,0 +1,569 @@
+package com.wordtrainer.repository.inmemory;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent in-memory stand-in for a Spring Data Mongo repository, used by the {@code inmemory} profile.
+ * <p>
+ * Entities are copied through the real {@link MongoConverter} on the way in and out, so callers never share
+ * state with the store and see the same mapping (ObjectId ids, Instant/Date round trips) as with MongoDB.
+ * {@code @Version} and auditing fields are handled like Spring Data does. Entities can be partitioned by an
+ * owner key (e.g. childId) so per-owner queries do not scan the whole store, and looked up by a natural key
+ * for upserts that mirror a unique compound index.
+ */
+public abstract class InMemoryRepository<T> implements MongoRepository<T, String> {
+
+    protected final ConcurrentMap<String, T> store = new ConcurrentHashMap<>();
+
+    private final Class<T> type;
+    private final MongoConverter converter;
+    private final Function<T, String> partitionKey;
+    private final Function<T, Object> naturalKey;
+    private final ConcurrentMap<String, NavigableSet<String>> partitions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, String> naturalKeys = new ConcurrentHashMap<>();
+
+    private final Field idField;
+    private final Field versionField;
+    private final Field createdDateField;
+    private final Field lastModifiedDateField;
+
+    protected InMemoryRepository(Class<T> type, MongoConverter converter,
+                                 Function<T, String> partitionKey, Function<T, Object> naturalKey) {
+        this.type = type;
+        this.converter = converter;
+        this.partitionKey = partitionKey;
+        this.naturalKey = naturalKey;
+        this.idField = annotatedField(type, Id.class);
+        this.versionField = annotatedField(type, Version.class);
+        this.createdDateField = annotatedField(type, CreatedDate.class);
+        this.lastModifiedDateField = annotatedField(type, LastModifiedDate.class);
+        Objects.requireNonNull(idField, () -> type.getSimpleName() + " has no @Id field");
+    }
+
+    protected T copy(T entity) {
+        return converter.read(type, toDocument(entity));
+    }
+
+    private Document toDocument(T entity) {
+        Document document = new Document();
+        converter.write(entity, document);
+        return document;
+    }
+
+    /**
+     * Entities owned by {@code key}, in insertion order (ObjectId hex strings sort by creation time; partitions
+     * keep their ids sorted, so no query sorts them).
+     */
+    protected Stream<T> partition(String key) {
+        Set<String> ids = partitions.get(key);
+        if (ids == null) {
+            return Stream.empty();
+        }
+        return ids.stream().map(store::get)
+                .filter(entity -> entity != null && key.equals(partitionKey.apply(entity)));
+    }
+
+    protected Stream<T> all() {
+        return store.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue);
+    }
+
+    /**
+     * Atomically creates or updates the entity identified by {@code key}, like an upsert on a unique index.
+     */
+    protected T upsert(Object key, Supplier<T> creator, UnaryOperator<T> updater) {
+        String id = naturalKeys.compute(key, (k, existingId) -> {
+            T current = existingId != null ? store.get(existingId) : null;
+            T updated = updater.apply(current != null ? copy(current) : creator.get());
+            stamp(updated, current == null);
+            String updatedId = getId(updated);
+            store.put(updatedId, copy(updated));
+            indexPartition(updated);
+            return updatedId;
+        });
+        return copy(store.get(id));
+    }
+
+    /**
+     * Atomically applies {@code updater} to a stored entity, bumping its version. Returns false when missing.
+     */
+    protected boolean update(String id, UnaryOperator<T> updater) {
+        return updateIf(id, current -> true, updater);
+    }
+
+    /**
+     * Like {@link #update}, but only when the stored entity matches {@code condition}, as a filtered update does.
+     */
+    protected boolean updateIf(String id, Predicate<T> condition, UnaryOperator<T> updater) {
+        AtomicBoolean updated = new AtomicBoolean();
+        store.computeIfPresent(id, (k, current) -> {
+            if (!condition.test(current)) {
+                return current;
+            }
+            T next = updater.apply(copy(current));
+            stamp(next, false);
+            updated.set(true);
+            return next;
+        });
+        return updated.get();
+    }
+
+    /**
+     * Like {@link #update}, but leaves version and timestamps alone, as a plain {@code $set} does.
+     */
+    protected boolean patch(String id, UnaryOperator<T> updater) {
+        return store.computeIfPresent(id, (k, current) -> updater.apply(copy(current))) != null;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        String id = getId(entity);
+        boolean isNew = versionField != null ? getField(versionField, entity) == null : id == null;
+        if (id == null) {
+            id = new ObjectId().toHexString();
+            ReflectionUtils.setField(idField, entity, id);
+        }
+
+        String entityId = id;
+        Object key = naturalKey != null ? naturalKey.apply(entity) : null;
+        boolean reserved = key != null && reserveKey(key, entityId);
+        List<T> previous = new ArrayList<>(1);
+        try {
+            store.compute(entityId, (k, current) -> {
+                if (isNew && current != null && versionField != null) {
+                    throw new DuplicateKeyException("Duplicate key " + entityId + " in " + type.getSimpleName());
+                }
+                if (!isNew && versionField != null) {
+                    Object expected = getField(versionField, entity);
+                    if (current == null || !Objects.equals(getField(versionField, current), expected)) {
+                        throw new OptimisticLockingFailureException(
+                                "Cannot save " + type.getSimpleName() + " " + entityId + " with version " + expected);
+                    }
+                }
+                if (current != null) {
+                    previous.add(current);
+                }
+                stamp(entity, isNew || current == null);
+                return copy(entity);
+            });
+        } catch (RuntimeException ex) {
+            if (reserved) {
+                naturalKeys.remove(key, entityId);
+            }
+            throw ex;
+        }
+        previous.forEach(current -> unindexChangedKeys(current, entity));
+        index(entity);
+        return entity;
+    }
+
+    // Mirrors a unique index: the key is claimed before the write and released if the write fails.
+    private boolean reserveKey(Object key, String id) {
+        String owner = naturalKeys.putIfAbsent(key, id);
+        if (owner != null && !owner.equals(id)) {
+            throw new DuplicateKeyException("Duplicate key " + key + " in " + type.getSimpleName());
+        }
+        return owner == null;
+    }
+
+    protected Optional<T> findByNaturalKey(Object key) {
+        String id = key != null ? naturalKeys.get(key) : null;
+        T entity = id != null ? store.get(id) : null;
+        return entity != null ? Optional.of(copy(entity)) : Optional.empty();
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        if (getId(entity) != null && store.containsKey(getId(entity))) {
+            throw new DuplicateKeyException("Duplicate key " + getId(entity) + " in " + type.getSimpleName());
+        }
+        return save(entity);
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        T entity = store.get(id);
+        return entity != null ? Optional.of(copy(entity)) : Optional.empty();
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return store.containsKey(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return all().map(this::copy).toList();
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        List<T> found = new ArrayList<>();
+        ids.forEach(id -> findById(id).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return store.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        T removed = store.remove(id);
+        if (removed != null) {
+            unindex(removed);
+        }
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteById(getId(entity));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        store.clear();
+        partitions.clear();
+        naturalKeys.clear();
+    }
+
+    protected long deleteWhere(Stream<T> candidates) {
+        long deleted = 0;
+        for (String id : candidates.map(this::getId).toList()) {
+            T removed = store.remove(id);
+            if (removed != null) {
+                unindex(removed);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    protected static <E> List<E> page(Stream<E> results, Pageable pageable) {
+        if (pageable.isPaged()) {
+            results = results.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return results.toList();
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return sorted(all().map(this::toDocument), sort).map(document -> converter.read(type, document)).toList();
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        List<T> content = page(sorted(all().map(this::toDocument), pageable.getSort())
+                .map(document -> converter.read(type, document)), pageable);
+        return PageableExecutionUtils.getPage(content, pageable, this::count);
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::first);
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::all);
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        return findBy(example, query -> query.sortBy(sort).all());
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return findBy(example, query -> query.page(pageable));
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::count);
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::exists);
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(example, Sort.unsorted(), 0, example.getProbeType()));
+    }
+
+    // Sorts the mapped documents, so ids, dates and nested fields compare as they do in MongoDB.
+    private Stream<Document> sorted(Stream<Document> documents, Sort sort) {
+        Comparator<Document> order = null;
+        for (Sort.Order property : sort) {
+            String field = property.getProperty().equals(idField.getName()) ? "_id" : property.getProperty();
+            List<String> path = List.of(field.split("\\."));
+            Comparator<Document> byProperty = Comparator.comparing(
+                    document -> sortKey(document, path), Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (property.isDescending()) {
+                byProperty = byProperty.reversed();
+            }
+            order = order == null ? byProperty : order.thenComparing(byProperty);
+        }
+        return order != null ? documents.sorted(order) : documents;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> sortKey(Document document, List<String> path) {
+        Object value = document;
+        for (String key : path) {
+            if (!(value instanceof Document current)) {
+                return null;
+            }
+            value = current.get(key);
+        }
+        return (Comparable<Object>) value;
+    }
+
+    private <S extends T> Stream<Document> matching(Example<S> example) {
+        S probe = example.getProbe();
+        List<String> nullProperties = new ArrayList<>();
+        MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+        PersistentPropertyAccessor<S> accessor = entity.getPropertyAccessor(probe);
+        entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+            if (!property.isIdProperty() && accessor.getProperty(property) == null) {
+                nullProperties.add(property.getFieldName());
+            }
+        });
+        Predicate<Document> filter = ExampleFilter.of(
+                toDocument(probe), example.getMatcher(), idField.getName(), nullProperties);
+        return all().map(this::toDocument).filter(filter);
+    }
+
+    /**
+     * Fluent query by example. Projections read whole documents into the requested type.
+     */
+    private class ExampleQuery<S extends T, R> implements FluentQuery.FetchableFluentQuery<R> {
+
+        private final Example<S> example;
+        private final Sort sort;
+        private final int limit;
+        private final Class<R> resultType;
+
+        ExampleQuery(Example<S> example, Sort sort, int limit, Class<R> resultType) {
+            this.example = example;
+            this.sort = sort;
+            this.limit = limit;
+            this.resultType = resultType;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> sortBy(Sort sort) {
+            return new ExampleQuery<>(example, this.sort.and(sort), limit, resultType);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> limit(int limit) {
+            return new ExampleQuery<>(example, sort, limit, resultType);
+        }
+
+        @Override
+        public <N> FluentQuery.FetchableFluentQuery<N> as(Class<N> resultType) {
+            return new ExampleQuery<>(example, sort, limit, resultType);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public R oneValue() {
+            List<R> results = results(sort, 2).toList();
+            if (results.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, results.size());
+            }
+            return results.isEmpty() ? null : results.get(0);
+        }
+
+        @Override
+        public R firstValue() {
+            return results(sort, 1).findFirst().orElse(null);
+        }
+
+        @Override
+        public List<R> all() {
+            return stream().toList();
+        }
+
+        @Override
+        public Page<R> page(Pageable pageable) {
+            List<R> content = InMemoryRepository.page(results(sort.and(pageable.getSort()), limit), pageable);
+            return PageableExecutionUtils.getPage(content, pageable, this::count);
+        }
+
+        @Override
+        public Stream<R> stream() {
+            return results(sort, limit);
+        }
+
+        @Override
+        public long count() {
+            return matching(example).count();
+        }
+
+        @Override
+        public boolean exists() {
+            return matching(example).findAny().isPresent();
+        }
+
+        private Stream<R> results(Sort order, int max) {
+            Stream<Document> documents = sorted(matching(example), order);
+            if (max > 0) {
+                documents = documents.limit(max);
+            }
+            return documents.map(document -> converter.read(resultType, document));
+        }
+    }
+
+    protected String getId(T entity) {
+        return (String) getField(idField, entity);
+    }
+
+    private void stamp(T entity, boolean isNew) {
+        Instant now = Instant.now();
+        if (getId(entity) == null) {
+            ReflectionUtils.setField(idField, entity, new ObjectId().toHexString());
+        }
+        if (versionField != null) {
+            Long version = (Long) getField(versionField, entity);
+            ReflectionUtils.setField(versionField, entity, isNew || version == null ? 0L : version + 1);
+        }
+        if (createdDateField != null && getField(createdDateField, entity) == null) {
+            ReflectionUtils.setField(createdDateField, entity, now);
+        }
+        if (lastModifiedDateField != null) {
+            ReflectionUtils.setField(lastModifiedDateField, entity, now);
+        }
+    }
+
+    private void index(T entity) {
+        indexPartition(entity);
+        if (naturalKey != null && naturalKey.apply(entity) != null) {
+            naturalKeys.put(naturalKey.apply(entity), getId(entity));
+        }
+    }
+
+    private void indexPartition(T entity) {
+        if (partitionKey != null && partitionKey.apply(entity) != null) {
+            partitions.computeIfAbsent(partitionKey.apply(entity), k -> new ConcurrentSkipListSet<>()).add(getId(entity));
+        }
+    }
+
+    private void unindex(T entity) {
+        String id = getId(entity);
+        if (partitionKey != null && partitionKey.apply(entity) != null) {
+            Set<String> ids = partitions.get(partitionKey.apply(entity));
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+        if (naturalKey != null && naturalKey.apply(entity) != null) {
+            naturalKeys.remove(naturalKey.apply(entity), id);
+        }
+    }
+
+    private void unindexChangedKeys(T current, T updated) {
+        String id = getId(current);
+        if (partitionKey != null && partitionKey.apply(current) != null
+                && !partitionKey.apply(current).equals(partitionKey.apply(updated))) {
+            Set<String> ids = partitions.get(partitionKey.apply(current));
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+        if (naturalKey != null && naturalKey.apply(current) != null
+                && !naturalKey.apply(current).equals(naturalKey.apply(updated))) {
+            naturalKeys.remove(naturalKey.apply(current), id);
+        }
+    }
+
+    private static Object getField(Field field, Object target) {
+        return ReflectionUtils.getField(field, target);
+    }
+
+    private static Field annotatedField(Class<?> type, Class<? extends java.lang.annotation.Annotation> annotation) {
+        Field[] found = new Field[1];
+        ReflectionUtils.doWithFields(type, field -> {
+            if (found[0] == null && field.isAnnotationPresent(annotation)) {
+                ReflectionUtils.makeAccessible(field);
+                found[0] = field;
+            }
+        });
+        return found[0];
+    }
+}
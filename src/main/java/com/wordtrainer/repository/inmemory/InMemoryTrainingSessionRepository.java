@@ -0,0 +1,85 @@
+package com.wordtrainer.repository.inmemory;
+
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.TrainingSessionRepository;
+import com.wordtrainer.repository.WordErrorCount;
+import com.wordtrainer.service.FailedWordCounter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public class InMemoryTrainingSessionRepository extends InMemoryRepository<TrainingSession>
+        implements TrainingSessionRepository {
+
+    private static final Comparator<TrainingSession> OLDEST_FIRST = Comparator
+            .comparing(TrainingSession::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TrainingSession::getId);
+
+    public InMemoryTrainingSessionRepository(MongoConverter converter) {
+        super(TrainingSession.class, converter, TrainingSession::getChildId, null);
+    }
+
+    @Override
+    public List<TrainingSession> findByChildId(String childId) {
+        return partition(childId).map(this::copy).toList();
+    }
+
+    @Override
+    public List<TrainingSession> findByChildIdAndListId(String childId, String listId) {
+        return sessions(childId, listId).map(this::copy).toList();
+    }
+
+    @Override
+    public void deleteByChildId(String childId) {
+        deleteWhere(partition(childId));
+    }
+
+    @Override
+    public void deleteByListId(String listId) {
+        deleteWhere(all().filter(session -> Objects.equals(session.getListId(), listId)));
+    }
+
+    @Override
+    public List<TrainingSession> findHistoryPage(String childId, String listId, Instant beforeCreatedAt, String beforeId,
+                                                 int limit) {
+        Stream<TrainingSession> sessions = sessions(childId, listId);
+        if (beforeCreatedAt != null) {
+            sessions = sessions.filter(session -> session.getCreatedAt() != null
+                    && (session.getCreatedAt().isBefore(beforeCreatedAt)
+                    || session.getCreatedAt().equals(beforeCreatedAt) && session.getId().compareTo(beforeId) < 0));
+        }
+        return sessions.sorted(OLDEST_FIRST.reversed()).limit(limit).map(this::copy).toList();
+    }
+
+    @Override
+    public Stream<TrainingSession> streamHistory(String childId, String listId) {
+        return sessions(childId, listId).sorted(OLDEST_FIRST).map(this::copy);
+    }
+
+    @Override
+    public List<WordErrorCount> findTopFailedWords(String childId, String listId, int limit) {
+        return FailedWordCounter.topFailedWords(sessions(childId, listId).toList(), limit);
+    }
+
+    @Override
+    public long deleteChunkByChildId(String childId, int chunkSize) {
+        return deleteWhere(partition(childId).limit(chunkSize));
+    }
+
+    @Override
+    public long deleteChunkByListId(String listId, int chunkSize) {
+        return deleteWhere(all().filter(session -> Objects.equals(session.getListId(), listId)).limit(chunkSize));
+    }
+
+    Stream<TrainingSession> sessions(String childId, String listId) {
+        Stream<TrainingSession> sessions = partition(childId);
+        if (listId != null && !listId.isBlank()) {
+            sessions = sessions.filter(session -> listId.equals(session.getListId()));
+        }
+        return sessions;
+    }
+}
@@ -0,0 +1,42 @@
+package com.wordtrainer.repository.inmemory;
+
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.repository.WordListRepository;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.util.List;
+
+public class InMemoryWordListRepository extends InMemoryRepository<WordList> implements WordListRepository {
+
+    public InMemoryWordListRepository(MongoConverter converter) {
+        super(WordList.class, converter, WordList::getChildId, null);
+    }
+
+    @Override
+    public List<WordList> findByChildId(String childId) {
+        return partition(childId).map(this::copy).toList();
+    }
+
+    @Override
+    public long deleteByChildId(String childId) {
+        return deleteWhere(partition(childId));
+    }
+
+    @Override
+    public long countByChildId(String childId) {
+        return partition(childId).count();
+    }
+
+    @Override
+    public long initializeMissingVersions() {
+        return 0;
+    }
+
+    @Override
+    public long markWordsScheduled(String listId) {
+        return patch(listId, list -> {
+            list.setWordsScheduled(true);
+            return list;
+        }) ? 1 : 0;
+    }
+}
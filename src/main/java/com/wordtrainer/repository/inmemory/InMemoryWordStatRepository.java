@@ -0,0 +1,140 @@
+package com.wordtrainer.repository.inmemory;
+
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.model.WordStat;
+import com.wordtrainer.repository.WordErrorCount;
+import com.wordtrainer.repository.WordStatRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class InMemoryWordStatRepository extends InMemoryRepository<WordStat> implements WordStatRepository {
+
+    private static final Comparator<WordStat> MOST_ERRORS = Comparator
+            .comparing((WordStat stat) -> stat.getErrors() != null ? stat.getErrors() : 0)
+            .reversed();
+
+    public InMemoryWordStatRepository(MongoConverter converter) {
+        super(WordStat.class, converter, WordStat::getChildId, InMemoryWordStatRepository::key);
+    }
+
+    @Override
+    public List<WordStat> findByChildIdOrderByErrorsDesc(String childId, Pageable pageable) {
+        return page(partition(childId).filter(this::practised).sorted(MOST_ERRORS).map(this::copy), pageable);
+    }
+
+    @Override
+    public List<WordStat> findByChildIdAndListIdOrderByErrorsDesc(String childId, String listId, Pageable pageable) {
+        return page(stats(childId, listId).filter(this::practised).sorted(MOST_ERRORS).map(this::copy), pageable);
+    }
+
+    @Override
+    public List<WordStat> findByChildIdAndListIdAndDueAtLessThanEqualOrderByDueAtAsc(
+            String childId, String listId, Instant dueBefore, Pageable pageable) {
+        return page(stats(childId, listId)
+                .filter(stat -> stat.getDueAt() != null && !stat.getDueAt().isAfter(dueBefore))
+                .sorted(Comparator.comparing(WordStat::getDueAt))
+                .map(this::copy), pageable);
+    }
+
+    @Override
+    public List<WordStat> findByChildIdAndListIdAndDueAtIsNull(String childId, String listId, Pageable pageable) {
+        return page(stats(childId, listId).filter(stat -> stat.getDueAt() == null).map(this::copy), pageable);
+    }
+
+    @Override
+    public List<WordStat> findByChildIdAndListId(String childId, String listId) {
+        return stats(childId, listId).map(this::copy).toList();
+    }
+
+    @Override
+    public Optional<WordStat> findByChildIdAndListIdAndWord(String childId, String listId, String word) {
+        return findByNaturalKey(new StatKey(childId, listId, word));
+    }
+
+    @Override
+    public long deleteByChildId(String childId) {
+        return deleteWhere(partition(childId));
+    }
+
+    @Override
+    public long deleteByChildIdAndListId(String childId, String listId) {
+        return deleteWhere(stats(childId, listId));
+    }
+
+    @Override
+    public long deleteByChildIdAndListIdAndWordIn(String childId, String listId, Collection<String> words) {
+        return deleteWhere(stats(childId, listId).filter(stat -> words.contains(stat.getWord())));
+    }
+
+    @Override
+    public void seedWords(String childId, String listId, Collection<String> words) {
+        for (String word : words) {
+            StatKey key = new StatKey(childId, listId, word);
+            upsert(key, () -> WordStat.builder().childId(childId).listId(listId).word(word).build(), stat -> stat);
+        }
+    }
+
+    @Override
+    public void recordSessions(String childId, List<TrainingSession> sessions, Instant seenAt, List<Duration> boxIntervals) {
+        int maxBox = boxIntervals.size() - 1;
+        for (TrainingSession session : sessions) {
+            for (TrainingSession.Result result : session.getResults()) {
+                if (result.getWord() == null) continue;
+                boolean correct = Boolean.TRUE.equals(result.getCorrect());
+                StatKey key = new StatKey(childId, session.getListId(), result.getWord());
+                // Same Leitner transition as the pipeline update, applied one answer at a time.
+                upsert(key, () -> WordStat.builder().childId(childId).listId(key.listId()).word(key.word()).build(),
+                        stat -> {
+                            int box = correct ? Math.min((stat.getBox() != null ? stat.getBox() : 0) + 1, maxBox) : 0;
+                            stat.setAttempts(stat.getAttempts() + 1);
+                            stat.setErrors(stat.getErrors() + (correct ? 0 : 1));
+                            stat.setLastSeen(seenAt);
+                            stat.setLastResult(correct);
+                            stat.setBox(box);
+                            stat.setDueAt(seenAt.plus(boxIntervals.get(box)));
+                            return stat;
+                        });
+            }
+        }
+    }
+
+    /**
+     * The dashboard's failed words: errors summed per word across the child's lists, most missed first.
+     */
+    List<WordErrorCount> findTopFailedWords(String childId, int limit) {
+        return partition(childId)
+                .filter(stat -> stat.getErrors() != null && stat.getErrors() > 0)
+                .collect(Collectors.groupingBy(WordStat::getWord, Collectors.summingInt(WordStat::getErrors)))
+                .entrySet().stream()
+                .map(entry -> new WordErrorCount(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(WordErrorCount::count).reversed()
+                        .thenComparing(WordErrorCount::word))
+                .limit(limit)
+                .toList();
+    }
+
+    private boolean practised(WordStat stat) {
+        return stat.getAttempts() != null && stat.getAttempts() > 0;
+    }
+
+    private Stream<WordStat> stats(String childId, String listId) {
+        return partition(childId).filter(stat -> Objects.equals(stat.getListId(), listId));
+    }
+
+    private static StatKey key(WordStat stat) {
+        return new StatKey(stat.getChildId(), stat.getListId(), stat.getWord());
+    }
+
+    private record StatKey(String childId, String listId, String word) {
+    }
+}
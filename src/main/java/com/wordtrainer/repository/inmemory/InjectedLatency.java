@@ -0,0 +1,53 @@
+package com.wordtrainer.repository.inmemory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+
+/**
+ * Makes every call on an in-memory repository wait before it runs, as a MongoDB round trip would, so a load test
+ * on the {@code inmemory} profile keeps request threads blocked on I/O instead of only burning CPU. Calls one
+ * in-memory repository makes on another (the dashboard reading sessions and stats) are not delayed again: with
+ * MongoDB they are part of the same aggregation.
+ */
+public final class InjectedLatency {
+
+    private InjectedLatency() {
+    }
+
+    /**
+     * The repository itself when {@code latency} is zero, otherwise a proxy of {@code repositoryInterface} that
+     * sleeps for {@code latency} before each call.
+     */
+    public static <R> R wrap(Class<R> repositoryInterface, R repository, Duration latency) {
+        if (latency.isZero() || latency.isNegative()) {
+            return repository;
+        }
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() != Object.class) {
+                sleep(latency);
+            }
+            return invoke(repository, method, args);
+        };
+        return repositoryInterface.cast(Proxy.newProxyInstance(repositoryInterface.getClassLoader(),
+                new Class<?>[]{repositoryInterface}, handler));
+    }
+
+    private static void sleep(Duration latency) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Object invoke(Object repository, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(repository, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
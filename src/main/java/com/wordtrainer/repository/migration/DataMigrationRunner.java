@@ -0,0 +1,133 @@
+package com.wordtrainer.repository.migration;
+
+import com.wordtrainer.model.DataMigration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies the {@link DataMigrationStep}s on a background thread once the index migrations are done, since steps
+ * upsert and merge on unique keys. Like the index migrations, the readiness probe stays out of service until
+ * every step has completed (see {@code DataMigrationHealthIndicator}) and a failed run is retried after
+ * {@code mongo.data-migrations.retry-delay}. A step is recorded in {@code data_migrations} when its first attempt
+ * starts and marked completed when it returns, so a partial run is never mistaken for a finished one.
+ */
+@Component
+@Profile("!inmemory")
+public class DataMigrationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataMigrationRunner.class);
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final List<DataMigrationStep> steps;
+    private final Duration retryDelay;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile State state = State.PENDING;
+    private volatile String runningStep;
+    private volatile String error;
+
+    public DataMigrationRunner(MongoTemplate mongoTemplate, List<DataMigrationStep> steps,
+                               @Value("${mongo.data-migrations.retry-delay:30s}") Duration retryDelay) {
+        this.mongoTemplate = mongoTemplate;
+        this.steps = steps;
+        this.retryDelay = retryDelay;
+    }
+
+    @EventListener(IndexMigrationsCompleted.class)
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            Thread.ofPlatform().name("data-migrations").daemon().start(this::migrate);
+        }
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public String runningStep() {
+        return runningStep;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    void migrate() {
+        while (!applyPending()) {
+            try {
+                Thread.sleep(retryDelay.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean applyPending() {
+        state = State.RUNNING;
+        error = null;
+        try {
+            for (DataMigrationStep step : steps) {
+                apply(step);
+            }
+            runningStep = null;
+            state = State.COMPLETED;
+            return true;
+        } catch (RuntimeException ex) {
+            error = ex.getMessage();
+            state = State.FAILED;
+            log.error("Data migration {} failed, retrying in {}: {}", runningStep, retryDelay, ex.getMessage());
+            return false;
+        }
+    }
+
+    private void apply(DataMigrationStep step) {
+        runningStep = step.name();
+        DataMigration record = begin(step);
+        if (record.getCompletedAt() != null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        log.info("Applying data migration {}: {}", step.name(), step.description());
+        step.apply(record.getStartedAt());
+        mongoTemplate.updateFirst(byName(step), Update.update("completedAt", Instant.now()), DataMigration.class);
+        log.info("Data migration {} applied in {} ms", step.name(), System.currentTimeMillis() - start);
+    }
+
+    // The first instance to get here fixes startedAt for every later attempt.
+    private DataMigration begin(DataMigrationStep step) {
+        Update update = new Update()
+                .setOnInsert("description", step.description())
+                .setOnInsert("startedAt", Instant.now());
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        try {
+            return mongoTemplate.findAndModify(byName(step), update, options, DataMigration.class);
+        } catch (DuplicateKeyException ex) {
+            // Another instance inserted the record between our match and insert
+            return mongoTemplate.findOne(byName(step), DataMigration.class);
+        }
+    }
+
+    private static Query byName(DataMigrationStep step) {
+        return Query.query(Criteria.where("_id").is(step.name()));
+    }
+}
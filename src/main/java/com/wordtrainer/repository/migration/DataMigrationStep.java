@@ -0,0 +1,23 @@
+package com.wordtrainer.repository.migration;
+
+import java.time.Instant;
+
+/**
+ * A one-off rewrite of existing documents, applied by {@link DataMigrationRunner} until it has completed once for
+ * the database. Steps run in {@code @Order}. A failed step is retried, possibly by several instances at once, so
+ * {@link #apply} must be idempotent.
+ */
+public interface DataMigrationStep {
+
+    /**
+     * Key of the step's record in {@code data_migrations}; never rename a step that has shipped.
+     */
+    String name();
+
+    String description();
+
+    /**
+     * @param startedAt when any instance first attempted this step; the same value on every retry
+     */
+    void apply(Instant startedAt);
+}
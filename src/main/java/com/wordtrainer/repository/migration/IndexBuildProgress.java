@@ -0,0 +1,4 @@
+package com.wordtrainer.repository.migration;
+
+public record IndexBuildProgress(String collection, String message, Long done, Long total) {
+}
@@ -0,0 +1,200 @@
+package com.wordtrainer.repository.migration;
+
+import com.wordtrainer.model.IndexMigration;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies {@link IndexMigrations} on a background thread once the context is up, instead of building indexes
+ * at startup through auto-index-creation. The readiness probe stays out of service until every migration is
+ * applied (see {@code IndexMigrationHealthIndicator}), and a failed run is retried after
+ * {@code mongo.indexes.retry-delay}. Each version is recorded in {@code index_migrations} when all of its
+ * indexes exist; several instances may race on the same version, since creating an existing index is a
+ * no-op and only the first record insert wins.
+ */
+@Component
+@Profile("!inmemory")
+public class IndexMigrationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexMigrationRunner.class);
+
+    public enum State {
+        DISABLED, PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<IndexMigrations.Migration> migrations;
+    private final boolean enabled;
+    private final Duration retryDelay;
+
+    private volatile State state;
+    private volatile Integer runningVersion;
+    private volatile String currentIndex;
+    private volatile String error;
+
+    public IndexMigrationRunner(MongoTemplate mongoTemplate, ApplicationEventPublisher eventPublisher,
+                                @Value("${mongo.indexes.migrations-enabled:true}") boolean enabled,
+                                @Value("${mongo.indexes.retry-delay:30s}") Duration retryDelay) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+        this.migrations = IndexMigrations.all();
+        List<String> undeclared = IndexMigrations.undeclared(
+                (MongoMappingContext) mongoTemplate.getConverter().getMappingContext(), migrations);
+        if (!undeclared.isEmpty()) {
+            throw new IllegalStateException("Indexes declared on entities but created by no index migration "
+                    + "(add them to a new version in IndexMigrations): " + undeclared);
+        }
+        this.enabled = enabled;
+        this.retryDelay = retryDelay;
+        this.state = enabled ? State.PENDING : State.DISABLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            // Indexes are managed elsewhere; startup work waiting on them can go ahead.
+            log.info("Index migrations disabled");
+            eventPublisher.publishEvent(new IndexMigrationsCompleted(latestVersion()));
+            return;
+        }
+        Thread.ofPlatform().name("index-migrations").daemon().start(this::migrate);
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    public IndexMigrationStatus status() {
+        List<IndexMigration> applied = List.of();
+        List<IndexBuildProgress> builds = List.of();
+        try {
+            applied = appliedMigrations();
+            builds = state == State.RUNNING ? indexBuilds() : List.of();
+        } catch (RuntimeException ex) {
+            log.debug("Could not read index migration state: {}", ex.getMessage());
+        }
+        Set<Integer> appliedVersions = applied.stream().map(IndexMigration::getVersion).collect(Collectors.toSet());
+        List<String> pending = migrations.stream()
+                .filter(migration -> !appliedVersions.contains(migration.version()))
+                .map(migration -> "v" + migration.version() + ": " + migration.description())
+                .toList();
+        return new IndexMigrationStatus(state, runningVersion, currentIndex, error, applied, pending, builds);
+    }
+
+    void migrate() {
+        while (!applyPending()) {
+            try {
+                Thread.sleep(retryDelay.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean applyPending() {
+        state = State.RUNNING;
+        error = null;
+        try {
+            Set<Integer> applied = appliedMigrations().stream()
+                    .map(IndexMigration::getVersion)
+                    .collect(Collectors.toSet());
+            for (IndexMigrations.Migration migration : migrations) {
+                if (!applied.contains(migration.version())) {
+                    apply(migration);
+                }
+            }
+            runningVersion = null;
+            currentIndex = null;
+            // Listeners run on this thread, so the instance only turns ready once they are done too.
+            eventPublisher.publishEvent(new IndexMigrationsCompleted(latestVersion()));
+            state = State.COMPLETED;
+            return true;
+        } catch (RuntimeException ex) {
+            error = ex.getMessage();
+            state = State.FAILED;
+            if (runningVersion != null) {
+                log.error("Index migration v{} failed on {}, retrying in {}: {}", runningVersion, currentIndex,
+                        retryDelay, ex.getMessage());
+            } else {
+                log.error("Index migrations failed, retrying in {}: {}", retryDelay, ex.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private int latestVersion() {
+        return migrations.get(migrations.size() - 1).version();
+    }
+
+    private void apply(IndexMigrations.Migration migration) {
+        runningVersion = migration.version();
+        Instant startedAt = Instant.now();
+        log.info("Applying index migration v{}: {}", migration.version(), migration.description());
+
+        List<String> names = new ArrayList<>();
+        for (IndexSpec index : migration.indexes()) {
+            currentIndex = index.name();
+            mongoTemplate.indexOps(index.collection()).ensureIndex(index.index());
+            names.add(index.name());
+        }
+
+        try {
+            mongoTemplate.insert(IndexMigration.builder()
+                    .version(migration.version())
+                    .description(migration.description())
+                    .indexes(names)
+                    .startedAt(startedAt)
+                    .appliedAt(Instant.now())
+                    .build());
+        } catch (DuplicateKeyException ex) {
+            log.debug("Index migration v{} was recorded by another instance", migration.version());
+        }
+        log.info("Index migration v{} applied ({} indexes)", migration.version(), names.size());
+    }
+
+    private List<IndexMigration> appliedMigrations() {
+        return mongoTemplate.find(new Query().with(Sort.by("_id")), IndexMigration.class);
+    }
+
+    // Index builds report their scan progress in currentOp as msg / progress.done / progress.total.
+    private List<IndexBuildProgress> indexBuilds() {
+        Document currentOp = mongoTemplate.getMongoDatabaseFactory().getMongoDatabase("admin").runCommand(
+                new Document("currentOp", 1).append("$ownOps", true).append("command.createIndexes", new Document("$exists", true)));
+        List<IndexBuildProgress> builds = new ArrayList<>();
+        for (Document op : currentOp.getList("inprog", Document.class, List.of())) {
+            Document command = op.get("command", Document.class);
+            Document progress = op.get("progress", Document.class);
+            builds.add(new IndexBuildProgress(
+                    command != null ? command.getString("createIndexes") : null,
+                    op.getString("msg"),
+                    progress != null ? progress.get("done", Number.class).longValue() : null,
+                    progress != null ? progress.get("total", Number.class).longValue() : null));
+        }
+        return builds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.wordtrainer.repository.migration;
+
+import com.wordtrainer.model.IndexMigration;
+
+import java.util.List;
+
+public record IndexMigrationStatus(
+        IndexMigrationRunner.State state,
+        Integer runningVersion,
+        String currentIndex,
+        String error,
+        List<IndexMigration> applied,
+        List<String> pending,
+        List<IndexBuildProgress> builds) {
+}
@@ -0,0 +1,92 @@
+package com.wordtrainer.repository.migration;
+
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+/**
+ * Ordered index migrations. Applied versions are recorded in {@code index_migrations} and never run again,
+ * so a new or changed index always gets a new version rather than an edit to an existing one. Indexes declared
+ * on the entities must be listed here too: {@link #undeclared} reports the ones no migration creates, and the
+ * runner refuses to start while there are any.
+ */
+public final class IndexMigrations {
+
+    public record Migration(int version, String description, List<IndexSpec> indexes) {
+    }
+
+    private IndexMigrations() {
+    }
+
+    public static List<Migration> all() {
+        return List.of(
+                // Same names and options auto-index-creation used, so existing databases see no conflicting index.
+                new Migration(1, "Indexes declared on the entities (@Indexed, @CompoundIndex)", List.of(
+                        new IndexSpec("children", new Index().on("parentId", ASC).named("parentId")),
+                        new IndexSpec("children", new Index().on("username", ASC).named("username").unique()),
+                        new IndexSpec("daily_progress", new Index().on("childId", ASC).on("day", ASC)
+                                .named("child_day").unique()),
+                        new IndexSpec("deletion_jobs", new Index().on("status", ASC).on("createdAt", ASC)
+                                .named("status_created")),
+                        new IndexSpec("lists", new Index().on("childId", ASC).named("childId")),
+                        new IndexSpec("parents", new Index().on("email", ASC).named("email").unique()),
+                        new IndexSpec("training_sessions", new Index().on("childId", ASC).on("createdAt", DESC)
+                                .on("_id", DESC).named("child_created")),
+                        new IndexSpec("training_sessions", new Index().on("childId", ASC).on("listId", ASC)
+                                .on("createdAt", DESC).on("_id", DESC).named("child_list_created")),
+                        new IndexSpec("training_sessions", new Index().on("listId", ASC).named("listId")),
+                        new IndexSpec("word_stats", new Index().on("childId", ASC).on("errors", DESC)
+                                .named("child_errors")),
+                        new IndexSpec("word_stats", new Index().on("childId", ASC).on("listId", ASC).on("dueAt", ASC)
+                                .named("child_list_due")),
+                        new IndexSpec("word_stats", new Index().on("childId", ASC).on("listId", ASC).on("errors", DESC)
+                                .named("child_list_errors")),
+                        new IndexSpec("word_stats", new Index().on("childId", ASC).on("listId", ASC).on("word", ASC)
+                                .named("child_list_word").unique()))),
+                new Migration(2, "children: parentId + createdAt so the parent dashboard reads children in order", List.of(
+                        new IndexSpec("children", new Index()
+                                .on("parentId", ASC)
+                                .on("createdAt", ASC)
+                                .named("parent_created")))));
+    }
+
+    /**
+     * Indexes declared with {@code @Indexed} or {@code @CompoundIndex} that no migration creates with the same
+     * keys and options.
+     */
+    public static List<String> undeclared(MongoMappingContext mappingContext, List<Migration> migrations) {
+        Set<String> migrated = migrations.stream()
+                .flatMap(migration -> migration.indexes().stream())
+                .map(IndexMigrations::signature)
+                .collect(Collectors.toSet());
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+        List<String> undeclared = new ArrayList<>();
+        mappingContext.getPersistentEntities().stream()
+                .filter(entity -> entity.isAnnotationPresent(Document.class))
+                .sorted(Comparator.comparing(MongoPersistentEntity::getCollection))
+                .forEach(entity -> resolver.resolveIndexFor(entity.getTypeInformation()).forEach(index -> {
+                    IndexSpec spec = new IndexSpec(entity.getCollection(), index);
+                    if (!migrated.contains(signature(spec))) {
+                        undeclared.add(spec.name() + " " + index.getIndexKeys().toJson() + " " + index.getIndexOptions().toJson());
+                    }
+                }));
+        return undeclared;
+    }
+
+    // Key order matters to an index, option order does not.
+    private static String signature(IndexSpec spec) {
+        return spec.collection() + " " + spec.index().getIndexKeys().toJson() + " " + new TreeMap<>(spec.index().getIndexOptions());
+    }
+}
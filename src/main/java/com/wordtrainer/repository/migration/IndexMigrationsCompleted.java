@@ -0,0 +1,9 @@
+package com.wordtrainer.repository.migration;
+
+/**
+ * Published by {@link IndexMigrationRunner} once every index migration is applied, before the instance reports
+ * ready. Startup work that relies on the indexes, such as upserts and {@code $merge} on unique keys, listens for
+ * it instead of {@code ApplicationReadyEvent}.
+ */
+public record IndexMigrationsCompleted(int version) {
+}
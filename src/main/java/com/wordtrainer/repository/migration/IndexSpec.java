@@ -0,0 +1,11 @@
+package com.wordtrainer.repository.migration;
+
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+public record IndexSpec(String collection, IndexDefinition index) {
+
+    public String name() {
+        Object name = index.getIndexOptions().get("name");
+        return collection + "." + (name != null ? name : index.getIndexKeys().toJson());
+    }
+}
@@ -0,0 +1,10 @@
+package com.wordtrainer.security;
+
+import java.time.Instant;
+
+public record JwtPrincipal(String userId, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -11,11 +11,15 @@ import com.wordtrainer.model.Parent;
 import com.wordtrainer.repository.ChildRepository;
 import com.wordtrainer.repository.ParentRepository;
 import com.wordtrainer.security.JwtTokenProvider;
+import com.wordtrainer.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 public class AuthService {
 
@@ -23,15 +27,24 @@ public class AuthService {
 
     private final ParentRepository parentRepository;
     private final ChildRepository childRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider tokenProvider;
 
+    private final Timer parentLoginSuccess;
+    private final Timer parentLoginFailure;
+    private final Timer childLoginSuccess;
+    private final Timer childLoginFailure;
+
     public AuthService(ParentRepository parentRepository, ChildRepository childRepository,
-                       PasswordEncoder passwordEncoder, JwtTokenProvider tokenProvider) {
+                       PasswordHasher passwordHasher, JwtTokenProvider tokenProvider, MeterRegistry meterRegistry) {
         this.parentRepository = parentRepository;
         this.childRepository = childRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.tokenProvider = tokenProvider;
+        this.parentLoginSuccess = loginTimer(meterRegistry, "parent", "success");
+        this.parentLoginFailure = loginTimer(meterRegistry, "parent", "failure");
+        this.childLoginSuccess = loginTimer(meterRegistry, "child", "success");
+        this.childLoginFailure = loginTimer(meterRegistry, "child", "failure");
     }
 
     public AuthResponse register(RegisterRequest request) {
@@ -41,7 +54,7 @@ public class AuthService {
 
         Parent parent = Parent.builder()
                 .email(request.getEmail().toLowerCase())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHasher.encode(request.getPassword()))
                 .firstName(request.getFirstName())
                 .build();
 
@@ -52,24 +65,30 @@ public class AuthService {
     }
 
     public AuthResponse login(LoginRequest request) {
-        Parent parent = parentRepository.findByEmail(request.getEmail().toLowerCase())
-                .orElseThrow(() -> new UnauthorizedException("Email ou mot de passe incorrect"));
+        long start = System.nanoTime();
+        Parent parent = parentRepository.findByEmail(request.getEmail().toLowerCase()).orElse(null);
 
-        if (!passwordEncoder.matches(request.getPassword(), parent.getPasswordHash())) {
+        if (parent == null || !passwordHasher.matches(request.getPassword(), parent.getPasswordHash())
+                || parent.getDeletedAt() != null) {
+            parentLoginFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             throw new UnauthorizedException("Email ou mot de passe incorrect");
         }
+        parentLoginSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         log.info("Parent logged in: {}", parent.getEmail());
         return buildAuthResponse(parent);
     }
 
     public AuthResponse loginChild(ChildLoginRequest request) {
-        Child child = childRepository.findByUsername(request.getUsername().toLowerCase())
-                .orElseThrow(() -> new UnauthorizedException("Nom d'utilisateur ou mot de passe incorrect"));
+        long start = System.nanoTime();
+        Child child = childRepository.findByUsername(request.getUsername().toLowerCase()).orElse(null);
 
-        if (!passwordEncoder.matches(request.getPassword(), child.getPasswordHash())) {
+        if (child == null || !passwordHasher.matches(request.getPassword(), child.getPasswordHash())
+                || child.getDeletedAt() != null) {
+            childLoginFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             throw new UnauthorizedException("Nom d'utilisateur ou mot de passe incorrect");
         }
+        childLoginSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         log.info("Child logged in: {}", child.getUsername());
         return buildAuthResponse(child);
@@ -110,4 +129,13 @@ public class AuthService {
                         .build())
                 .build();
     }
+
+    // Covers the credential lookup and the password check, including time queued in the hashing bulkhead.
+    private static Timer loginTimer(MeterRegistry meterRegistry, String role, String outcome) {
+        return Timer.builder("auth.login")
+                .description("Credential lookup and password check")
+                .tag("role", role)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
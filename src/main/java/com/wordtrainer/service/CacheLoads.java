@@ -0,0 +1,43 @@
+package com.wordtrainer.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Cache-aside reads that load a missing entry on the calling thread, outside any lock. Caffeine's
+ * {@code Cache.get(key, loader)} runs the loader inside {@code ConcurrentHashMap.compute}, whose monitor pins a
+ * virtual thread to its carrier for the whole Mongo round trip. Here only an in-flight future is published under
+ * the lock: concurrent callers for the same key wait on it, and an invalidation during the load drops it.
+ */
+final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    /**
+     * The cached value, or the loader's result; a null result is returned but not cached.
+     */
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        // Goes through get rather than asMap() so hits and misses are recorded in the cache stats
+        CompletableFuture<V> existing = cache.get(key, (k, executor) -> loading);
+        if (existing != loading) {
+            try {
+                return existing.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            loading.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.DeletionJob;
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.DailyProgressRepository;
+import com.wordtrainer.repository.DeletionJobRepository;
+import com.wordtrainer.repository.ParentRepository;
+import com.wordtrainer.repository.TrainingSessionRepository;
+import com.wordtrainer.repository.WordListRepository;
+import com.wordtrainer.repository.WordStatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+@Component
+public class CascadeDeletionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(CascadeDeletionWorker.class);
+
+    private final DeletionJobRepository jobRepository;
+    private final ParentRepository parentRepository;
+    private final ChildRepository childRepository;
+    private final WordListRepository listRepository;
+    private final TrainingSessionRepository sessionRepository;
+    private final WordStatRepository wordStatRepository;
+    private final DailyProgressRepository progressRepository;
+    private final UsernameIndex usernameIndex;
+    private final WordListCache listCache;
+    private final WordSamplerCache samplerCache;
+
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+
+    public CascadeDeletionWorker(DeletionJobRepository jobRepository, ParentRepository parentRepository,
+                                 ChildRepository childRepository, WordListRepository listRepository,
+                                 TrainingSessionRepository sessionRepository, WordStatRepository wordStatRepository,
+                                 DailyProgressRepository progressRepository,
+                                 UsernameIndex usernameIndex, WordListCache listCache,
+                                 WordSamplerCache samplerCache,
+                                 @Value("${deletion.chunk-size:500}") int chunkSize,
+                                 @Value("${deletion.chunk-pause:50ms}") Duration chunkPause,
+                                 @Value("${deletion.lease:2m}") Duration lease,
+                                 @Value("${deletion.max-attempts:5}") int maxAttempts,
+                                 @Value("${deletion.retry-delay:1m}") Duration retryDelay) {
+        this.jobRepository = jobRepository;
+        this.parentRepository = parentRepository;
+        this.childRepository = childRepository;
+        this.listRepository = listRepository;
+        this.sessionRepository = sessionRepository;
+        this.wordStatRepository = wordStatRepository;
+        this.progressRepository = progressRepository;
+        this.usernameIndex = usernameIndex;
+        this.listCache = listCache;
+        this.samplerCache = samplerCache;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+    }
+
+    @Scheduled(fixedDelayString = "${deletion.poll-interval-ms:5000}")
+    public void processPendingJobs() {
+        try {
+            Optional<DeletionJob> job;
+            // An interrupted worker is shutting down: stop claiming instead of picking up the job it just handed back.
+            while (!Thread.currentThread().isInterrupted() && (job = claimNext()).isPresent()) {
+                run(job.get());
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not poll deletion jobs: {}", ex.getMessage());
+        }
+    }
+
+    private Optional<DeletionJob> claimNext() {
+        Instant now = Instant.now();
+        return jobRepository.claimNext(now, now.plus(lease));
+    }
+
+    private void run(DeletionJob job) {
+        log.info("Running deletion job {} ({} {}), attempt {}", job.getId(), job.getType(), job.getTargetId(), job.getAttempts());
+        try {
+            switch (job.getType()) {
+                case PARENT -> cascadeParent(job);
+                case CHILD -> cascadeChild(job, job.getTargetId());
+                case LIST -> cascadeList(job);
+            }
+            jobRepository.markCompleted(job.getId(), Instant.now());
+            log.info("Deletion job {} completed", job.getId());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.info("Deletion job {} interrupted, handing it back", job.getId());
+            jobRepository.recordFailure(job.getId(), "Interrupted", Instant.now().plus(retryDelay));
+        } catch (Exception ex) {
+            log.error("Deletion job {} failed", job.getId(), ex);
+            if (job.getAttempts() >= maxAttempts) {
+                jobRepository.markFailed(job.getId(), ex.getMessage());
+            } else {
+                jobRepository.recordFailure(job.getId(), ex.getMessage(), Instant.now().plus(retryDelay));
+            }
+        }
+    }
+
+    private void cascadeParent(DeletionJob job) throws InterruptedException {
+        String parentId = job.getTargetId();
+        for (Child child : childRepository.findByParentId(parentId)) {
+            cascadeChild(job, child.getId());
+            usernameIndex.remove(child.getUsername());
+            listCache.evictChild(child.getId());
+            samplerCache.evictChild(child.getId());
+        }
+        record(job, "children", childRepository.deleteByParentId(parentId));
+        parentRepository.deleteById(parentId);
+    }
+
+    private void cascadeChild(DeletionJob job, String childId) throws InterruptedException {
+        deleteInChunks(job, "training_sessions", () -> sessionRepository.deleteChunkByChildId(childId, chunkSize));
+        record(job, "word_stats", wordStatRepository.deleteByChildId(childId));
+        record(job, "daily_progress", progressRepository.deleteByChildId(childId));
+        record(job, "lists", listRepository.deleteByChildId(childId));
+        childRepository.deleteById(childId);
+    }
+
+    private void cascadeList(DeletionJob job) throws InterruptedException {
+        String listId = job.getTargetId();
+        deleteInChunks(job, "training_sessions", () -> sessionRepository.deleteChunkByListId(listId, chunkSize));
+        record(job, "word_stats", wordStatRepository.deleteByChildIdAndListId(job.getChildId(), listId));
+        listRepository.deleteById(listId);
+    }
+
+    private void deleteInChunks(DeletionJob job, String collection, LongSupplier deleteChunk) throws InterruptedException {
+        long deleted;
+        while ((deleted = deleteChunk.getAsLong()) > 0) {
+            record(job, collection, deleted);
+            Thread.sleep(chunkPause.toMillis());
+        }
+    }
+
+    private void record(DeletionJob job, String collection, long deleted) {
+        if (deleted > 0) {
+            jobRepository.recordProgress(job.getId(), collection, deleted, Instant.now().plus(lease));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.wordtrainer.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordtrainer.exception.UnauthorizedException;
+import com.wordtrainer.model.Child;
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.ParentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class ChildOwnershipResolver {
+
+    private static final String ACCOUNT_DELETED = "Compte supprimé";
+
+    private final ChildRepository childRepository;
+    private final ParentRepository parentRepository;
+    private final AsyncCache<String, Set<String>> childrenByParent;
+    private final AsyncCache<String, Boolean> activeAccounts;
+
+    public ChildOwnershipResolver(ChildRepository childRepository, ParentRepository parentRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${cache.child-ownership.max-size:50000}") long maxSize,
+                                  @Value("${cache.child-ownership.ttl:10m}") Duration ttl,
+                                  @Value("${cache.active-accounts.ttl:30s}") Duration activeAccountsTtl) {
+        this.childRepository = childRepository;
+        this.parentRepository = parentRepository;
+        this.childrenByParent = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        // Short-lived: a deletion on another instance is only seen here once the entry expires.
+        this.activeAccounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(activeAccountsTtl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, childrenByParent.synchronous(), "children.by-parent");
+        CaffeineCacheMetrics.monitor(meterRegistry, activeAccounts.synchronous(), "accounts.active");
+    }
+
+    public boolean isOwner(String parentId, String childId) {
+        if (CacheLoads.get(childrenByParent, parentId, this::loadChildIds).contains(childId)) {
+            return true;
+        }
+        // The child may have been created on another instance since the set was cached.
+        Set<String> reloaded = loadChildIds(parentId);
+        childrenByParent.synchronous().put(parentId, reloaded);
+        return reloaded.contains(childId);
+    }
+
+    public void checkAccess(String childId, String requesterId, String requesterRole) {
+        checkAccess(childId, requesterId, requesterRole, "Accès non autorisé");
+    }
+
+    public void checkAccess(String childId, String requesterId, String requesterRole, String deniedMessage) {
+        if ("child".equals(requesterRole)) {
+            if (!childId.equals(requesterId)) {
+                throw new UnauthorizedException(deniedMessage);
+            }
+            requireActive(requesterId, requesterRole);
+        } else if ("parent".equals(requesterRole)) {
+            requireActive(requesterId, requesterRole);
+            if (!isOwner(requesterId, childId)) {
+                throw new UnauthorizedException(deniedMessage);
+            }
+        }
+    }
+
+    /**
+     * Rejects tokens of deleted accounts: a JWT stays valid until it expires, but the account behind it is
+     * tombstoned as soon as it is deleted.
+     */
+    public void requireActive(String requesterId, String requesterRole) {
+        if (!CacheLoads.get(activeAccounts, requesterId, id -> "parent".equals(requesterRole)
+                ? parentRepository.existsByIdAndDeletedAtIsNull(id)
+                : childRepository.existsByIdAndDeletedAtIsNull(id))) {
+            throw new UnauthorizedException(ACCOUNT_DELETED);
+        }
+    }
+
+    public void accountDeleted(String accountId) {
+        activeAccounts.synchronous().put(accountId, false);
+        childrenByParent.synchronous().invalidate(accountId);
+    }
+
+    // A set still loading may predate the change: it is dropped rather than updated, and the next read reloads.
+    public void childAdded(String parentId, String childId) {
+        childrenByParent.asMap().computeIfPresent(parentId, (id, children) -> children.isDone()
+                ? children.thenApply(loaded -> {
+                    Set<String> updated = new HashSet<>(loaded);
+                    updated.add(childId);
+                    return Set.copyOf(updated);
+                })
+                : null);
+    }
+
+    public void childRemoved(String parentId, String childId) {
+        childrenByParent.asMap().computeIfPresent(parentId, (id, children) -> children.isDone()
+                ? children.thenApply(loaded -> loaded.stream()
+                        .filter(existing -> !existing.equals(childId))
+                        .collect(Collectors.toUnmodifiableSet()))
+                : null);
+    }
+
+    private Set<String> loadChildIds(String parentId) {
+        return childRepository.findIdsByParentId(parentId).stream()
+                .map(Child::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -4,18 +4,18 @@ import com.wordtrainer.dto.request.CreateChildRequest;
 import com.wordtrainer.dto.request.UpdateChildRequest;
 import com.wordtrainer.dto.request.UpdateSettingsRequest;
 import com.wordtrainer.dto.response.ChildResponse;
+import com.wordtrainer.exception.PreconditionFailedException;
 import com.wordtrainer.exception.ResourceNotFoundException;
 import com.wordtrainer.exception.UnauthorizedException;
 import com.wordtrainer.exception.UsernameAlreadyExistsException;
 import com.wordtrainer.model.Child;
+import com.wordtrainer.model.DeletionJob;
 import com.wordtrainer.repository.ChildRepository;
-import com.wordtrainer.repository.TrainingSessionRepository;
-import com.wordtrainer.repository.WordListRepository;
+import com.wordtrainer.security.PasswordHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -23,21 +23,25 @@ import java.util.List;
 public class ChildService {
 
     private static final Logger log = LoggerFactory.getLogger(ChildService.class);
+    private static final String SETTINGS_CHANGED = "Les paramètres ont été modifiés entre-temps, veuillez recharger";
 
     private final ChildRepository childRepository;
-    private final WordListRepository listRepository;
-    private final TrainingSessionRepository sessionRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UsernameIndex usernameIndex;
+    private final ChildOwnershipResolver ownershipResolver;
+    private final DeletionService deletionService;
 
-    public ChildService(ChildRepository childRepository, WordListRepository listRepository,
-                        TrainingSessionRepository sessionRepository, PasswordEncoder passwordEncoder) {
+    public ChildService(ChildRepository childRepository, PasswordHasher passwordHasher, UsernameIndex usernameIndex,
+                        ChildOwnershipResolver ownershipResolver, DeletionService deletionService) {
         this.childRepository = childRepository;
-        this.listRepository = listRepository;
-        this.sessionRepository = sessionRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.usernameIndex = usernameIndex;
+        this.ownershipResolver = ownershipResolver;
+        this.deletionService = deletionService;
     }
 
     public List<ChildResponse> getChildrenForParent(String parentId) {
+        ownershipResolver.requireActive(parentId, "parent");
         return childRepository.findByParentId(parentId)
                 .stream()
                 .map(ChildResponse::fromEntity)
@@ -45,19 +49,15 @@ public class ChildService {
     }
 
     public ChildResponse getChild(String childId, String parentId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
-
-        if (!child.getParentId().equals(parentId)) {
-            throw new UnauthorizedException("Accès non autorisé à cet enfant");
-        }
+        Child child = loadOwnedChild(childId, parentId);
 
         return ChildResponse.fromEntity(child);
     }
 
     public ChildResponse createChild(String parentId, CreateChildRequest request) {
-        String username = request.getUsername().toLowerCase().trim();
-        if (childRepository.existsByUsername(username)) {
+        ownershipResolver.requireActive(parentId, "parent");
+        String username = UsernameIndex.normalize(request.getUsername());
+        if (usernameIndex.isTaken(username)) {
             throw new UsernameAlreadyExistsException("Ce nom d'utilisateur est déjà pris");
         }
 
@@ -65,27 +65,26 @@ public class ChildService {
                 .parentId(parentId)
                 .firstName(request.getFirstName().trim())
                 .username(username)
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHasher.encode(request.getPassword()))
                 .avatar(request.getAvatar())
                 .schoolLevel(request.getSchoolLevel())
                 .build();
 
-        child = childRepository.save(child);
+        child = saveWithUniqueUsername(child);
+        usernameIndex.add(username);
+        ownershipResolver.childAdded(parentId, child.getId());
         log.info("New child created: {} for parent: {}", child.getUsername(), parentId);
 
         return ChildResponse.fromEntity(child);
     }
 
-    public ChildResponse updateChild(String childId, String parentId, UpdateChildRequest request) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
-
-        if (!child.getParentId().equals(parentId)) {
-            throw new UnauthorizedException("Accès non autorisé à cet enfant");
-        }
+    public ChildResponse updateChild(String childId, String parentId, UpdateChildRequest request, String ifMatch) {
+        Child child = loadOwnedChild(childId, parentId);
+        requireRevision(child, ifMatch);
 
-        String newUsername = request.getUsername().toLowerCase().trim();
-        if (!child.getUsername().equals(newUsername) && childRepository.existsByUsername(newUsername)) {
+        String oldUsername = child.getUsername();
+        String newUsername = UsernameIndex.normalize(request.getUsername());
+        if (!oldUsername.equals(newUsername) && usernameIndex.isTaken(newUsername)) {
             throw new UsernameAlreadyExistsException("Ce nom d'utilisateur est déjà pris");
         }
 
@@ -99,48 +98,35 @@ public class ChildService {
             child.setSchoolLevel(request.getSchoolLevel());
         }
         if (request.getNewPassword() != null && !request.getNewPassword().isBlank()) {
-            child.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+            child.setPasswordHash(passwordHasher.encode(request.getNewPassword()));
         }
 
-        child = childRepository.save(child);
+        child = saveWithUniqueUsername(child);
+        if (!oldUsername.equals(newUsername)) {
+            usernameIndex.remove(oldUsername);
+            usernameIndex.add(newUsername);
+        }
         log.info("Child updated: {}", child.getUsername());
 
         return ChildResponse.fromEntity(child);
     }
 
-    @Transactional
-    public void deleteChild(String childId, String parentId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
-
-        if (!child.getParentId().equals(parentId)) {
-            throw new UnauthorizedException("Accès non autorisé à cet enfant");
-        }
-
-        sessionRepository.deleteByChildId(childId);
-        listRepository.deleteByChildId(childId);
-        childRepository.delete(child);
-
-        log.info("Child deleted: {}", childId);
+    public DeletionJob deleteChild(String childId, String parentId) {
+        Child child = loadOwnedChild(childId, parentId);
+        return deletionService.deleteChild(child, parentId);
     }
 
-    public Child.Settings getSettings(String childId, String parentId) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
-
-        if (!child.getParentId().equals(parentId)) {
-            throw new UnauthorizedException("Accès non autorisé à cet enfant");
-        }
+    public Revisioned<Child.Settings> getSettings(String childId, String parentId) {
+        Child child = loadOwnedChild(childId, parentId);
 
-        return child.getSettings();
+        return new Revisioned<>(child.getSettings(), settingsETag(childId, child.getSettingsRevision()));
     }
 
-    public Child.Settings updateSettings(String childId, String parentId, UpdateSettingsRequest request) {
-        Child child = childRepository.findById(childId)
-                .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
-
-        if (!child.getParentId().equals(parentId)) {
-            throw new UnauthorizedException("Accès non autorisé à cet enfant");
+    public Revisioned<Child.Settings> updateSettings(String childId, String parentId, UpdateSettingsRequest request,
+                                                     String ifMatch) {
+        Child child = loadOwnedChild(childId, parentId);
+        if (!ETags.matches(ifMatch, settingsETag(childId, child.getSettingsRevision()))) {
+            throw new PreconditionFailedException(SETTINGS_CHANGED);
         }
 
         Child.Settings settings = child.getSettings();
@@ -164,25 +150,57 @@ public class ChildService {
             settings.setShowCorrection(request.getShowCorrection());
         }
 
-        child.setSettings(settings);
-        childRepository.save(child);
+        long revision = replaceSettings(child, settings);
 
         log.info("Settings updated for child: {}", childId);
-        return settings;
+        return new Revisioned<>(settings, settingsETag(childId, revision));
     }
 
     public Child.Settings resetSettings(String childId, String parentId) {
+        Child child = loadOwnedChild(childId, parentId);
+
+        Child.Settings settings = new Child.Settings();
+        replaceSettings(child, settings);
+
+        log.info("Settings reset for child: {}", childId);
+        return settings;
+    }
+
+    private Child loadOwnedChild(String childId, String parentId) {
+        ownershipResolver.requireActive(parentId, "parent");
         Child child = childRepository.findById(childId)
                 .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
 
         if (!child.getParentId().equals(parentId)) {
             throw new UnauthorizedException("Accès non autorisé à cet enfant");
         }
+        return child;
+    }
 
-        child.setSettings(new Child.Settings());
-        childRepository.save(child);
+    // Settings carry their own revision, so a training saved since the read does not fail the write.
+    private long replaceSettings(Child child, Child.Settings settings) {
+        Long expected = child.getSettingsRevision();
+        if (!childRepository.updateSettings(child.getId(), expected, settings)) {
+            throw new PreconditionFailedException(SETTINGS_CHANGED);
+        }
+        return (expected != null ? expected : 0) + 1;
+    }
 
-        log.info("Settings reset for child: {}", childId);
-        return child.getSettings();
+    private static String settingsETag(String childId, Long settingsRevision) {
+        return ETags.of(childId + "-settings", settingsRevision);
+    }
+
+    private void requireRevision(Child child, String ifMatch) {
+        if (!ETags.matches(ifMatch, ETags.of(child.getId(), child.getVersion()))) {
+            throw new PreconditionFailedException("L'enfant a été modifié entre-temps, veuillez recharger");
+        }
+    }
+
+    private Child saveWithUniqueUsername(Child child) {
+        try {
+            return childRepository.save(child);
+        } catch (DuplicateKeyException ex) {
+            throw new UsernameAlreadyExistsException("Ce nom d'utilisateur est déjà pris");
+        }
     }
 }
@@ -0,0 +1,47 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.dto.response.ChildDashboardResponse;
+import com.wordtrainer.dto.response.ChildResponse;
+import com.wordtrainer.model.Child;
+import com.wordtrainer.repository.ChildRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class DashboardService {
+
+    private final ChildRepository childRepository;
+    private final ChildOwnershipResolver ownershipResolver;
+    private final int sessionsPerChild;
+    private final int failedWordsPerChild;
+
+    public DashboardService(ChildRepository childRepository, ChildOwnershipResolver ownershipResolver,
+                            @Value("${dashboard.sessions-per-child:5}") int sessionsPerChild,
+                            @Value("${dashboard.failed-words-per-child:5}") int failedWordsPerChild) {
+        this.childRepository = childRepository;
+        this.ownershipResolver = ownershipResolver;
+        this.sessionsPerChild = sessionsPerChild;
+        this.failedWordsPerChild = failedWordsPerChild;
+    }
+
+    public List<ChildDashboardResponse> getDashboard(String parentId) {
+        ownershipResolver.requireActive(parentId, "parent");
+        return childRepository.findOverviewsByParentId(parentId, sessionsPerChild, failedWordsPerChild).stream()
+                .map(overview -> ChildDashboardResponse.builder()
+                        .child(ChildResponse.fromEntity(overview.child()))
+                        .successRate(successRate(overview.child().getStats()))
+                        .recentSessions(overview.recentSessions())
+                        .failedWords(overview.failedWords())
+                        .build())
+                .toList();
+    }
+
+    private static int successRate(Child.Stats stats) {
+        if (stats == null || stats.getTotalWords() == null || stats.getTotalWords() == 0) {
+            return 0;
+        }
+        return (int) Math.round((double) stats.getCorrectWords() / stats.getTotalWords() * 100);
+    }
+}
@@ -0,0 +1,106 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.exception.ResourceNotFoundException;
+import com.wordtrainer.exception.UnauthorizedException;
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.DeletionJob;
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.DeletionJobRepository;
+import com.wordtrainer.repository.ParentRepository;
+import com.wordtrainer.repository.WordListRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class DeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeletionService.class);
+
+    private final DeletionJobRepository jobRepository;
+    private final ParentRepository parentRepository;
+    private final ChildRepository childRepository;
+    private final WordListRepository listRepository;
+    private final UsernameIndex usernameIndex;
+    private final WordListCache listCache;
+    private final ChildOwnershipResolver ownershipResolver;
+    private final WordSamplerCache samplerCache;
+
+    public DeletionService(DeletionJobRepository jobRepository, ParentRepository parentRepository,
+                           ChildRepository childRepository, WordListRepository listRepository,
+                           UsernameIndex usernameIndex, WordListCache listCache,
+                           ChildOwnershipResolver ownershipResolver, WordSamplerCache samplerCache) {
+        this.jobRepository = jobRepository;
+        this.parentRepository = parentRepository;
+        this.childRepository = childRepository;
+        this.listRepository = listRepository;
+        this.usernameIndex = usernameIndex;
+        this.listCache = listCache;
+        this.ownershipResolver = ownershipResolver;
+        this.samplerCache = samplerCache;
+    }
+
+    public DeletionJob deleteParent(String parentId) {
+        DeletionJob job = schedule(DeletionJob.Type.PARENT, parentId, null, parentId);
+
+        // Tombstone the whole family now: tokens already issued stay valid until they expire, and the
+        // cascade may take a while, so nobody in it may log in, train or create children from here on.
+        Instant now = Instant.now();
+        List<Child> children = childRepository.findIdsByParentId(parentId);
+        parentRepository.markDeleted(parentId, now);
+        childRepository.markDeletedByParentId(parentId, now);
+        ownershipResolver.accountDeleted(parentId);
+        children.forEach(child -> ownershipResolver.accountDeleted(child.getId()));
+
+        log.info("Parent {} and {} children marked deleted, cascade scheduled as job {}",
+                parentId, children.size(), job.getId());
+        return job;
+    }
+
+    public DeletionJob deleteChild(Child child, String requestedBy) {
+        DeletionJob job = schedule(DeletionJob.Type.CHILD, child.getId(), child.getId(), requestedBy);
+        childRepository.delete(child);
+        usernameIndex.remove(child.getUsername());
+        listCache.evictChild(child.getId());
+        samplerCache.evictChild(child.getId());
+        ownershipResolver.childRemoved(child.getParentId(), child.getId());
+        ownershipResolver.accountDeleted(child.getId());
+
+        log.info("Child {} removed, cascade scheduled as job {}", child.getId(), job.getId());
+        return job;
+    }
+
+    public DeletionJob deleteList(WordList list, String requestedBy) {
+        DeletionJob job = schedule(DeletionJob.Type.LIST, list.getId(), list.getChildId(), requestedBy);
+        listRepository.delete(list);
+        listCache.evict(list);
+        samplerCache.evict(list);
+
+        log.info("List {} removed, cascade scheduled as job {}", list.getId(), job.getId());
+        return job;
+    }
+
+    public DeletionJob getJob(String jobId, String requesterId) {
+        DeletionJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Suppression", jobId));
+
+        if (!job.getRequestedBy().equals(requesterId)) {
+            throw new UnauthorizedException("Accès non autorisé à cette suppression");
+        }
+        return job;
+    }
+
+    private DeletionJob schedule(DeletionJob.Type type, String targetId, String childId, String requestedBy) {
+        // The job is persisted before the entity disappears so a crash in between still cascades.
+        return jobRepository.save(DeletionJob.builder()
+                .type(type)
+                .targetId(targetId)
+                .childId(childId)
+                .requestedBy(requestedBy)
+                .build());
+    }
+}
@@ -0,0 +1,10 @@
+package com.wordtrainer.service;
+
+import java.time.Instant;
+
+public record DueWord(String word, Integer box, Instant dueAt) {
+
+    public boolean isNew() {
+        return box == null;
+    }
+}
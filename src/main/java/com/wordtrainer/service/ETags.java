@@ -0,0 +1,44 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.model.WordList;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(String id, Long version) {
+        return "\"" + id + "-" + (version != null ? version : 0) + "\"";
+    }
+
+    public static String of(Collection<WordList> lists) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            for (WordList list : lists) {
+                sha256.update((list.getId() + ":" + list.getVersion() + ";").getBytes(StandardCharsets.UTF_8));
+            }
+            return "\"" + HexFormat.of().formatHex(sha256.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public static boolean matches(String ifMatch, String etag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.WordErrorCount;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+public final class FailedWordCounter {
+
+    private static final Comparator<WordErrorCount> RANKING = Comparator
+            .comparingInt(WordErrorCount::count).reversed()
+            .thenComparing(WordErrorCount::word, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private FailedWordCounter() {
+    }
+
+    public static List<WordErrorCount> topFailedWords(Iterable<TrainingSession> sessions, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Map<String, Integer> errorCounts = new HashMap<>();
+        for (TrainingSession session : sessions) {
+            for (TrainingSession.Result result : session.getResults()) {
+                if (!Boolean.TRUE.equals(result.getCorrect())) {
+                    errorCounts.merge(result.getWord(), 1, Integer::sum);
+                }
+            }
+        }
+
+        // Min-heap on the ranking keeps only the current top `limit` words in memory.
+        PriorityQueue<WordErrorCount> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<String, Integer> entry : errorCounts.entrySet()) {
+            heap.offer(new WordErrorCount(entry.getKey(), entry.getValue()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<WordErrorCount> top = new ArrayList<>(heap);
+        top.sort(RANKING);
+        return top;
+    }
+}
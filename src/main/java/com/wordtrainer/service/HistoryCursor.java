@@ -0,0 +1,32 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.exception.BadRequestException;
+import com.wordtrainer.model.TrainingSession;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+public record HistoryCursor(Instant createdAt, String id) {
+
+    public static HistoryCursor after(TrainingSession session) {
+        return new HistoryCursor(session.getCreatedAt(), session.getId());
+    }
+
+    public static HistoryCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new HistoryCursor(
+                    Instant.ofEpochMilli(Long.parseLong(decoded.substring(0, separator))),
+                    decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("Curseur de pagination invalide");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toEpochMilli() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
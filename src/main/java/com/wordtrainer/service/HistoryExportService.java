@@ -0,0 +1,144 @@
+package com.wordtrainer.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.wordtrainer.exception.BadRequestException;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.TrainingSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class HistoryExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoryExportService.class);
+
+    private static final String CSV_HEADER = "id,createdAt,listId,listName,trainingType,totalWords,correctCount,"
+            + "incorrectCount,score,durationSeconds,failedWords";
+
+    private final TrainingSessionRepository sessionRepository;
+    private final ObjectWriter sessionWriter;
+
+    public HistoryExportService(TrainingSessionRepository sessionRepository, ObjectMapper objectMapper) {
+        this.sessionRepository = sessionRepository;
+        this.sessionWriter = objectMapper.writerFor(TrainingSession.class);
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Format d'export non supporté: " + value);
+        }
+    }
+
+    public void export(String childId, String listId, Format format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        long count;
+        try (Stream<TrainingSession> sessions = sessionRepository.streamHistory(childId, listId)) {
+            count = switch (format) {
+                case NDJSON -> writeNdjson(sessions.iterator(), out);
+                case CSV -> writeCsv(sessions.iterator(), out);
+            };
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Exported {} sessions for child: {} as {} in {} ms", count, childId, format,
+                System.currentTimeMillis() - start);
+    }
+
+    private long writeNdjson(Iterator<TrainingSession> sessions, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = sessionWriter.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            while (sessions.hasNext()) {
+                sessionWriter.writeValue(generator, sessions.next());
+                count++;
+            }
+            generator.writeRaw('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<TrainingSession> sessions, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (sessions.hasNext()) {
+            TrainingSession session = sessions.next();
+            String failedWords = session.getResults().stream()
+                    .filter(result -> !Boolean.TRUE.equals(result.getCorrect()))
+                    .map(TrainingSession.Result::getWord)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining("|"));
+
+            writer.write(String.join(",",
+                    csv(session.getId()),
+                    csv(session.getCreatedAt()),
+                    csv(session.getListId()),
+                    csv(session.getListName()),
+                    csv(session.getTrainingType()),
+                    csv(session.getTotalWords()),
+                    csv(session.getCorrectCount()),
+                    csv(session.getIncorrectCount()),
+                    csv(session.getScore()),
+                    csv(session.getDurationSeconds()),
+                    csv(failedWords)));
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
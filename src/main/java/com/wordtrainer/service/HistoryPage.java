@@ -0,0 +1,8 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.model.TrainingSession;
+
+import java.util.List;
+
+public record HistoryPage(List<TrainingSession> sessions, String nextCursor) {
+}
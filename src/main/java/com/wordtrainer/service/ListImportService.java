@@ -0,0 +1,285 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.dto.response.ListImportResponse;
+import com.wordtrainer.exception.BadRequestException;
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.repository.WordListRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class ListImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ListImportService.class);
+
+    private final WordListRepository listRepository;
+    private final ChildOwnershipResolver ownershipResolver;
+    private final WordListCache listCache;
+    private final WordStatsService wordStatsService;
+    private final int maxWords;
+    private final int maxWordLength;
+    private final int maxLineLength;
+    private final int maxReportedErrors;
+
+    public ListImportService(WordListRepository listRepository, ChildOwnershipResolver ownershipResolver,
+                             WordListCache listCache, WordStatsService wordStatsService,
+                             @Value("${lists.import.max-words:20000}") int maxWords,
+                             @Value("${lists.import.max-word-length:100}") int maxWordLength,
+                             @Value("${lists.import.max-line-length:1000}") int maxLineLength,
+                             @Value("${lists.import.max-reported-errors:100}") int maxReportedErrors) {
+        this.listRepository = listRepository;
+        this.ownershipResolver = ownershipResolver;
+        this.listCache = listCache;
+        this.wordStatsService = wordStatsService;
+        this.maxWords = maxWords;
+        this.maxWordLength = maxWordLength;
+        this.maxLineLength = maxLineLength;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public enum Format {
+        TEXT, CSV;
+
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Format d'import non supporté: " + value);
+        }
+    }
+
+    public ListImportResponse importLists(String childId, String requesterId, String requesterRole, String name,
+                                          Format format, int column, boolean header, Integer wordsPerList,
+                                          InputStream body) throws IOException {
+        ownershipResolver.checkAccess(childId, requesterId, requesterRole, ListService.LIST_ACCESS_DENIED);
+
+        if (name == null || name.isBlank()) {
+            throw new BadRequestException("Le nom de la liste est requis");
+        }
+        if (wordsPerList != null && wordsPerList < 1) {
+            throw new BadRequestException("Le nombre de mots par liste doit être positif");
+        }
+        if (column < 0) {
+            throw new BadRequestException("La colonne doit être positive");
+        }
+
+        ImportState state = new ImportState(childId, name.trim(), wordsPerList);
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        BoundedLine line = new BoundedLine();
+
+        while (readLine(reader, line)) {
+            state.response.setLinesRead(state.response.getLinesRead() + 1);
+            long lineNumber = state.response.getLinesRead();
+
+            if (header && lineNumber == 1) {
+                continue;
+            }
+            if (line.truncated) {
+                state.error(lineNumber, line.text(40), "Ligne trop longue");
+                continue;
+            }
+
+            String raw = line.text();
+            if (format == Format.CSV) {
+                raw = csvField(raw, column, state, lineNumber);
+                if (raw == null) {
+                    continue;
+                }
+            }
+
+            String word = WordNormalizer.normalize(raw);
+            if (word == null) {
+                continue;
+            }
+            if (word.length() > maxWordLength) {
+                state.error(lineNumber, word.substring(0, Math.min(40, word.length())), "Mot trop long");
+                continue;
+            }
+            if (!WordNormalizer.isValid(word)) {
+                state.error(lineNumber, word, "Caractères non valides");
+                continue;
+            }
+            if (!state.seen.add(word)) {
+                state.response.setDuplicates(state.response.getDuplicates() + 1);
+                continue;
+            }
+
+            state.add(word);
+
+            if (state.seen.size() >= maxWords) {
+                if (readLine(reader, line)) {
+                    state.response.setTruncated(true);
+                }
+                break;
+            }
+        }
+
+        state.flush();
+
+        if (state.response.getLists().isEmpty()) {
+            throw new BadRequestException("Aucun mot valide dans le fichier importé");
+        }
+
+        log.info("Imported {} words into {} lists for child: {} ({} lines, {} duplicates, {} errors)",
+                state.response.getWordsImported(), state.response.getLists().size(), childId,
+                state.response.getLinesRead(), state.response.getDuplicates(), state.response.getErrorCount());
+
+        return state.response;
+    }
+
+    private String csvField(String line, int column, ImportState state, long lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',' || c == ';') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            state.error(lineNumber, line, "Guillemets non fermés");
+            return null;
+        }
+        fields.add(field.toString());
+
+        if (column >= fields.size()) {
+            if (!line.isBlank()) {
+                state.error(lineNumber, line, "Colonne " + column + " absente");
+            }
+            return null;
+        }
+        return fields.get(column);
+    }
+
+    private boolean readLine(Reader reader, BoundedLine line) throws IOException {
+        line.reset();
+        int c;
+        boolean read = false;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (c == '\n') {
+                return true;
+            }
+            if (c == '\r') {
+                continue;
+            }
+            line.append((char) c, maxLineLength);
+        }
+        return read;
+    }
+
+    private static class BoundedLine {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean truncated;
+
+        void reset() {
+            buffer.setLength(0);
+            truncated = false;
+        }
+
+        void append(char c, int maxLength) {
+            if (buffer.length() < maxLength) {
+                buffer.append(c);
+            } else {
+                truncated = true;
+            }
+        }
+
+        String text() {
+            return buffer.toString();
+        }
+
+        String text(int maxLength) {
+            return buffer.substring(0, Math.min(maxLength, buffer.length()));
+        }
+    }
+
+    private class ImportState {
+
+        private final String childId;
+        private final String name;
+        private final Integer wordsPerList;
+        private final Set<String> seen = new HashSet<>();
+        private final ListImportResponse response = ListImportResponse.builder().build();
+        private List<String> pending = new ArrayList<>();
+
+        ImportState(String childId, String name, Integer wordsPerList) {
+            this.childId = childId;
+            this.name = name;
+            this.wordsPerList = wordsPerList;
+        }
+
+        void add(String word) {
+            pending.add(word);
+            if (wordsPerList != null && pending.size() >= wordsPerList) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            String listName = wordsPerList == null
+                    ? name
+                    : name + " (" + (response.getLists().size() + 1) + ")";
+            WordList list = WordList.builder()
+                    .childId(childId)
+                    .name(listName)
+                    .words(pending)
+                    .build();
+
+            list = listRepository.save(list);
+            listCache.evict(list);
+            wordStatsService.scheduleWords(list);
+            response.getLists().add(list);
+            response.setWordsImported(response.getWordsImported() + pending.size());
+            pending = new ArrayList<>();
+        }
+
+        void error(long line, String value, String message) {
+            response.setErrorCount(response.getErrorCount() + 1);
+            if (response.getErrors().size() < maxReportedErrors) {
+                response.getErrors().add(ListImportResponse.LineError.builder()
+                        .line(line)
+                        .value(value)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
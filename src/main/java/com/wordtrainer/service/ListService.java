@@ -1,17 +1,15 @@
 package com.wordtrainer.service;
 
 import com.wordtrainer.dto.request.CreateListRequest;
+import com.wordtrainer.exception.BadRequestException;
+import com.wordtrainer.exception.PreconditionFailedException;
 import com.wordtrainer.exception.ResourceNotFoundException;
-import com.wordtrainer.exception.UnauthorizedException;
-import com.wordtrainer.model.Child;
+import com.wordtrainer.model.DeletionJob;
 import com.wordtrainer.model.WordList;
-import com.wordtrainer.repository.ChildRepository;
-import com.wordtrainer.repository.TrainingSessionRepository;
 import com.wordtrainer.repository.WordListRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -19,36 +17,39 @@ import java.util.List;
 public class ListService {
 
     private static final Logger log = LoggerFactory.getLogger(ListService.class);
+    static final String LIST_ACCESS_DENIED = "Accès non autorisé à cette liste";
 
     private final WordListRepository listRepository;
-    private final ChildRepository childRepository;
-    private final TrainingSessionRepository sessionRepository;
-
-    public ListService(WordListRepository listRepository, ChildRepository childRepository,
-                       TrainingSessionRepository sessionRepository) {
+    private final ChildOwnershipResolver ownershipResolver;
+    private final WordListCache listCache;
+    private final DeletionService deletionService;
+    private final WordSamplerCache samplerCache;
+    private final WordStatsService wordStatsService;
+
+    public ListService(WordListRepository listRepository, ChildOwnershipResolver ownershipResolver,
+                       WordListCache listCache, DeletionService deletionService, WordSamplerCache samplerCache,
+                       WordStatsService wordStatsService) {
         this.listRepository = listRepository;
-        this.childRepository = childRepository;
-        this.sessionRepository = sessionRepository;
+        this.ownershipResolver = ownershipResolver;
+        this.listCache = listCache;
+        this.deletionService = deletionService;
+        this.samplerCache = samplerCache;
+        this.wordStatsService = wordStatsService;
     }
 
     public List<WordList> getListsForChild(String childId) {
-        return listRepository.findByChildId(childId);
+        return listCache.getByChildId(childId);
     }
 
     public WordList getList(String listId) {
-        return listRepository.findById(listId)
+        return listCache.get(listId)
                 .orElseThrow(() -> new ResourceNotFoundException("Liste", listId));
     }
 
     public WordList createList(String childId, String requesterId, String requesterRole, CreateListRequest request) {
-        validateAccess(childId, requesterId, requesterRole);
+        ownershipResolver.checkAccess(childId, requesterId, requesterRole, LIST_ACCESS_DENIED);
 
-        List<String> cleanedWords = request.getWords().stream()
-                .map(String::trim)
-                .map(String::toLowerCase)
-                .filter(w -> !w.isBlank())
-                .distinct()
-                .toList();
+        List<String> cleanedWords = cleanWords(request);
 
         WordList list = WordList.builder()
                 .childId(childId)
@@ -57,56 +58,55 @@ public class ListService {
                 .build();
 
         list = listRepository.save(list);
+        listCache.evict(list);
+        wordStatsService.scheduleWords(list);
         log.info("New list created: {} for child: {}", list.getName(), childId);
 
         return list;
     }
 
-    public WordList updateList(String listId, String requesterId, String requesterRole, CreateListRequest request) {
+    public WordList updateList(String listId, String requesterId, String requesterRole, CreateListRequest request,
+                               String ifMatch) {
         WordList list = listRepository.findById(listId)
                 .orElseThrow(() -> new ResourceNotFoundException("Liste", listId));
 
-        validateAccess(list.getChildId(), requesterId, requesterRole);
+        ownershipResolver.checkAccess(list.getChildId(), requesterId, requesterRole, LIST_ACCESS_DENIED);
+        if (!ETags.matches(ifMatch, ETags.of(list.getId(), list.getVersion()))) {
+            throw new PreconditionFailedException("La liste a été modifiée entre-temps, veuillez recharger");
+        }
 
-        List<String> cleanedWords = request.getWords().stream()
-                .map(String::trim)
-                .map(String::toLowerCase)
-                .filter(w -> !w.isBlank())
-                .distinct()
-                .toList();
+        List<String> cleanedWords = cleanWords(request);
+        List<String> previousWords = list.getWords();
 
         list.setName(request.getName().trim());
         list.setWords(cleanedWords);
+        list.setWordsScheduled(false);
 
         list = listRepository.save(list);
+        listCache.evict(list);
+        samplerCache.evict(list);
+        wordStatsService.unscheduleRemovedWords(list, previousWords);
+        wordStatsService.scheduleWords(list);
         log.info("List updated: {}", listId);
 
         return list;
     }
 
-    @Transactional
-    public void deleteList(String listId, String requesterId, String requesterRole) {
+    public DeletionJob deleteList(String listId, String requesterId, String requesterRole) {
         WordList list = listRepository.findById(listId)
                 .orElseThrow(() -> new ResourceNotFoundException("Liste", listId));
 
-        validateAccess(list.getChildId(), requesterId, requesterRole);
+        ownershipResolver.checkAccess(list.getChildId(), requesterId, requesterRole, LIST_ACCESS_DENIED);
 
-        sessionRepository.deleteByListId(listId);
-        listRepository.delete(list);
-        log.info("List deleted: {}", listId);
+        return deletionService.deleteList(list, requesterId);
     }
 
-    private void validateAccess(String childId, String requesterId, String requesterRole) {
-        if ("child".equals(requesterRole)) {
-            if (!childId.equals(requesterId)) {
-                throw new UnauthorizedException("Accès non autorisé à cette liste");
-            }
-        } else if ("parent".equals(requesterRole)) {
-            Child child = childRepository.findById(childId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
-            if (!child.getParentId().equals(requesterId)) {
-                throw new UnauthorizedException("Accès non autorisé à cette liste");
-            }
+    private static List<String> cleanWords(CreateListRequest request) {
+        List<String> words = WordNormalizer.clean(request.getWords());
+        List<String> invalid = words.stream().filter(word -> !WordNormalizer.isValid(word)).toList();
+        if (!invalid.isEmpty()) {
+            throw new BadRequestException("Caractères non valides: " + String.join(", ", invalid));
         }
+        return words;
     }
 }
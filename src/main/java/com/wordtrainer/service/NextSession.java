@@ -0,0 +1,6 @@
+package com.wordtrainer.service;
+
+import java.util.List;
+
+public record NextSession(String listId, String wordOrder, List<String> words) {
+}
@@ -0,0 +1,47 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.repository.DailyProgressRepository;
+import com.wordtrainer.repository.migration.DataMigrationStep;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Builds daily_progress from the sessions saved before the rollup existed. Saves increment the day they happen
+ * on, so only the days before the step first started are rebuilt: they can no longer change, and replacing them
+ * never overwrites an increment from a session saved meanwhile. That day and later ones are left to the saves.
+ */
+@Component
+@Profile("!inmemory")
+@ConditionalOnProperty(name = "progress.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class ProgressBackfill implements DataMigrationStep {
+
+    private final DailyProgressRepository progressRepository;
+    private final ZoneId zone;
+
+    public ProgressBackfill(DailyProgressRepository progressRepository,
+                            @Value("${progress.zone:Europe/Paris}") ZoneId zone) {
+        this.progressRepository = progressRepository;
+        this.zone = zone;
+    }
+
+    @Override
+    public String name() {
+        return "daily-progress";
+    }
+
+    @Override
+    public String description() {
+        return "Rebuild daily_progress from training_sessions";
+    }
+
+    @Override
+    public void apply(Instant startedAt) {
+        progressRepository.rebuildDaysBefore(LocalDate.ofInstant(startedAt, zone), zone);
+    }
+}
@@ -0,0 +1,47 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.exception.BadRequestException;
+import com.wordtrainer.model.DailyProgress;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.DailyProgressRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+public class ProgressService {
+
+    private final DailyProgressRepository progressRepository;
+    private final ZoneId zone;
+    private final int maxRangeDays;
+
+    public ProgressService(DailyProgressRepository progressRepository,
+                           @Value("${progress.zone:Europe/Paris}") ZoneId zone,
+                           @Value("${progress.max-range-days:366}") int maxRangeDays) {
+        this.progressRepository = progressRepository;
+        this.zone = zone;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    public void recordSessions(String childId, List<TrainingSession> sessions) {
+        progressRepository.recordSessions(childId, sessions, zone);
+    }
+
+    public List<DailyProgress> getProgress(String childId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(zone);
+        LocalDate start = from != null ? from : end.minusDays(29);
+
+        if (start.isAfter(end)) {
+            throw new BadRequestException("La date de début doit précéder la date de fin");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            throw new BadRequestException("La période demandée ne peut pas dépasser " + maxRangeDays + " jours");
+        }
+
+        return progressRepository.findRange(childId, start.toString(), end.toString());
+    }
+}
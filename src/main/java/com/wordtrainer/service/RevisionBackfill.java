@@ -0,0 +1,51 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.WordListRepository;
+import com.wordtrainer.repository.migration.DataMigrationStep;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Documents written before {@code @Version} was introduced have no version field, and Spring Data would treat
+ * them as new on the next save: the insert then fails on the duplicate id. Gives them revision 0 before the
+ * instance turns ready, ahead of the other data migrations since those may save documents.
+ */
+@Component
+@Profile("!inmemory")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RevisionBackfill implements DataMigrationStep {
+
+    private static final Logger log = LoggerFactory.getLogger(RevisionBackfill.class);
+
+    private final ChildRepository childRepository;
+    private final WordListRepository listRepository;
+
+    public RevisionBackfill(ChildRepository childRepository, WordListRepository listRepository) {
+        this.childRepository = childRepository;
+        this.listRepository = listRepository;
+    }
+
+    @Override
+    public String name() {
+        return "document-revisions";
+    }
+
+    @Override
+    public String description() {
+        return "Initialize version on children and word lists saved before optimistic locking";
+    }
+
+    @Override
+    public void apply(Instant startedAt) {
+        long children = childRepository.initializeMissingVersions();
+        long lists = listRepository.initializeMissingVersions();
+        log.info("Initialized revisions on {} children and {} lists", children, lists);
+    }
+}
@@ -0,0 +1,4 @@
+package com.wordtrainer.service;
+
+public record Revisioned<T>(T value, String etag) {
+}
@@ -0,0 +1,54 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.exception.ResourceNotFoundException;
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.repository.ChildRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class SessionGenerator {
+
+    private final ChildRepository childRepository;
+    private final WordListCache listCache;
+    private final WordSamplerCache samplerCache;
+    private final WordStatsService wordStatsService;
+    private final ChildOwnershipResolver ownershipResolver;
+
+    public SessionGenerator(ChildRepository childRepository, WordListCache listCache,
+                            WordSamplerCache samplerCache, WordStatsService wordStatsService,
+                            ChildOwnershipResolver ownershipResolver) {
+        this.childRepository = childRepository;
+        this.listCache = listCache;
+        this.samplerCache = samplerCache;
+        this.wordStatsService = wordStatsService;
+        this.ownershipResolver = ownershipResolver;
+    }
+
+    public NextSession nextSession(String childId, String listId, String requesterId, String requesterRole) {
+        ownershipResolver.checkAccess(childId, requesterId, requesterRole, ListService.LIST_ACCESS_DENIED);
+        Child child = childRepository.findById(childId)
+                .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
+        WordList list = listCache.get(listId)
+                .filter(l -> childId.equals(l.getChildId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Liste", listId));
+
+        Child.Settings settings = child.getSettings();
+        String wordOrder = settings.getWordOrder() != null ? settings.getWordOrder() : "random";
+        int wordsPerSession = settings.getWordsPerSession() != null ? settings.getWordsPerSession() : 0;
+        int size = wordsPerSession > 0 ? Math.min(wordsPerSession, list.getWords().size()) : list.getWords().size();
+
+        List<String> words = switch (wordOrder) {
+            case "random" -> samplerCache.get(list).sample(size, ThreadLocalRandom.current());
+            case "spaced" -> wordStatsService.getDueWords(childId, listId, size).stream()
+                    .map(DueWord::word)
+                    .toList();
+            default -> list.getWords().subList(0, size);
+        };
+
+        return new NextSession(listId, wordOrder, List.copyOf(words));
+    }
+}
@@ -1,24 +1,28 @@
 package com.wordtrainer.service;
 
+import com.wordtrainer.dto.request.SaveTrainingBatchRequest;
 import com.wordtrainer.dto.request.SaveTrainingRequest;
 import com.wordtrainer.exception.ResourceNotFoundException;
-import com.wordtrainer.exception.UnauthorizedException;
 import com.wordtrainer.model.Child;
 import com.wordtrainer.model.TrainingSession;
 import com.wordtrainer.model.WordList;
 import com.wordtrainer.repository.ChildRepository;
 import com.wordtrainer.repository.TrainingSessionRepository;
-import com.wordtrainer.repository.WordListRepository;
+import com.wordtrainer.repository.WordErrorCount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class TrainingService {
@@ -26,31 +30,113 @@ public class TrainingService {
     private static final Logger log = LoggerFactory.getLogger(TrainingService.class);
 
     private final TrainingSessionRepository sessionRepository;
-    private final WordListRepository listRepository;
+    private final WordListCache listCache;
     private final ChildRepository childRepository;
-
-    public TrainingService(TrainingSessionRepository sessionRepository, WordListRepository listRepository,
-                           ChildRepository childRepository) {
+    private final WordStatsService wordStatsService;
+    private final ChildOwnershipResolver ownershipResolver;
+    private final ProgressService progressService;
+    private final boolean aggregateFailedWords;
+    private final int maxHistoryPageSize;
+
+    private final Timer saveTime;
+    private final Timer saveBatchTime;
+    private final Timer failedWordsTime;
+
+    public TrainingService(TrainingSessionRepository sessionRepository, WordListCache listCache,
+                           ChildRepository childRepository, WordStatsService wordStatsService,
+                           ChildOwnershipResolver ownershipResolver, ProgressService progressService,
+                           MeterRegistry meterRegistry,
+                           @Value("${training.failed-words.aggregation-enabled:true}") boolean aggregateFailedWords,
+                           @Value("${training.history.max-page-size:100}") int maxHistoryPageSize) {
         this.sessionRepository = sessionRepository;
-        this.listRepository = listRepository;
+        this.listCache = listCache;
         this.childRepository = childRepository;
+        this.wordStatsService = wordStatsService;
+        this.ownershipResolver = ownershipResolver;
+        this.progressService = progressService;
+        this.aggregateFailedWords = aggregateFailedWords;
+        this.maxHistoryPageSize = maxHistoryPageSize;
+        this.saveTime = Timer.builder("training.save")
+                .description("Session insert plus word stats, daily progress and child stats updates")
+                .tag("mode", "single")
+                .register(meterRegistry);
+        this.saveBatchTime = Timer.builder("training.save")
+                .description("Session insert plus word stats, daily progress and child stats updates")
+                .tag("mode", "batch")
+                .register(meterRegistry);
+        this.failedWordsTime = Timer.builder("training.failed-words")
+                .tag("source", aggregateFailedWords ? "aggregation" : "sessions")
+                .register(meterRegistry);
     }
 
-    public List<TrainingSession> getHistory(String childId, String listId, int limit) {
-        PageRequest pageable = PageRequest.of(0, limit);
-        
-        if (listId != null && !listId.isBlank()) {
-            return sessionRepository.findByChildIdAndListIdOrderByCreatedAtDesc(childId, listId, pageable);
+    public HistoryPage getHistory(String childId, String listId, int limit, String cursor) {
+        int pageSize = Math.max(1, Math.min(limit, maxHistoryPageSize));
+        HistoryCursor after = cursor != null && !cursor.isBlank() ? HistoryCursor.decode(cursor) : null;
+
+        List<TrainingSession> sessions = sessionRepository.findHistoryPage(childId, listId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+
+        if (sessions.size() <= pageSize) {
+            return new HistoryPage(sessions, null);
         }
-        return sessionRepository.findByChildIdOrderByCreatedAtDesc(childId, pageable);
+        List<TrainingSession> page = sessions.subList(0, pageSize);
+        return new HistoryPage(page, HistoryCursor.after(page.get(pageSize - 1)).encode());
     }
 
     public TrainingSession saveTraining(String childId, String requesterId, String requesterRole, SaveTrainingRequest request) {
-        validateAccess(childId, requesterId, requesterRole);
+        ownershipResolver.checkAccess(childId, requesterId, requesterRole);
 
-        WordList list = listRepository.findById(request.getListId())
+        WordList list = listCache.get(request.getListId())
                 .orElseThrow(() -> new ResourceNotFoundException("Liste", request.getListId()));
 
+        TrainingSession session = saveTime.record(() -> {
+            TrainingSession saved = sessionRepository.save(buildSession(childId, list, request));
+            wordStatsService.recordSessions(childId, List.of(saved));
+            progressService.recordSessions(childId, List.of(saved));
+            childRepository.recordTrainings(childId, 1, saved.getTotalWords(), saved.getCorrectCount(), Instant.now());
+            return saved;
+        });
+
+        log.info("Training saved for child: {}, score: {}%", childId, session.getScore());
+        return session;
+    }
+
+    public List<TrainingSession> saveTrainingBatch(String childId, String requesterId, String requesterRole,
+                                                   SaveTrainingBatchRequest request) {
+        ownershipResolver.checkAccess(childId, requesterId, requesterRole);
+
+        Set<String> listIds = request.getSessions().stream()
+                .map(SaveTrainingRequest::getListId)
+                .collect(Collectors.toSet());
+        Map<String, WordList> lists = listCache.getAll(listIds);
+
+        List<TrainingSession> sessions = new ArrayList<>(request.getSessions().size());
+        for (SaveTrainingRequest sessionRequest : request.getSessions()) {
+            WordList list = lists.get(sessionRequest.getListId());
+            if (list == null) {
+                throw new ResourceNotFoundException("Liste", sessionRequest.getListId());
+            }
+            sessions.add(buildSession(childId, list, sessionRequest));
+        }
+
+        List<TrainingSession> built = sessions;
+        sessions = saveBatchTime.record(() -> {
+            List<TrainingSession> saved = sessionRepository.saveAll(built);
+            int totalWords = saved.stream().mapToInt(TrainingSession::getTotalWords).sum();
+            int correctWords = saved.stream().mapToInt(TrainingSession::getCorrectCount).sum();
+            wordStatsService.recordSessions(childId, saved);
+            progressService.recordSessions(childId, saved);
+            childRepository.recordTrainings(childId, saved.size(), totalWords, correctWords, Instant.now());
+            return saved;
+        });
+
+        log.info("Training batch saved for child: {}, sessions: {}", childId, sessions.size());
+        return sessions;
+    }
+
+    private TrainingSession buildSession(String childId, WordList list, SaveTrainingRequest request) {
         int correctCount = (int) request.getResults().stream().filter(r -> Boolean.TRUE.equals(r.getCorrect())).count();
         int incorrectCount = request.getResults().size() - correctCount;
         int score = (int) Math.round((double) correctCount / request.getResults().size() * 100);
@@ -63,7 +149,7 @@ public class TrainingService {
                         .build())
                 .toList();
 
-        TrainingSession session = TrainingSession.builder()
+        return TrainingSession.builder()
                 .childId(childId)
                 .listId(list.getId())
                 .listName(list.getName())
@@ -75,44 +161,9 @@ public class TrainingService {
                 .durationSeconds(request.getDurationSeconds())
                 .results(results)
                 .build();
-
-        session = sessionRepository.save(session);
-
-        updateChildStats(childId, correctCount, request.getResults().size());
-
-        log.info("Training saved for child: {}, score: {}%", childId, score);
-        return session;
-    }
-
-    private void updateChildStats(String childId, int correctCount, int totalWords) {
-        Child child = childRepository.findById(childId).orElse(null);
-        if (child == null) return;
-
-        Child.Stats stats = child.getStats();
-        stats.setTotalTrainings(stats.getTotalTrainings() + 1);
-        stats.setTotalWords(stats.getTotalWords() + totalWords);
-        stats.setCorrectWords(stats.getCorrectWords() + correctCount);
-
-        Instant lastTraining = stats.getLastTrainingDate();
-        Instant now = Instant.now();
-        
-        if (lastTraining == null) {
-            stats.setStreak(1);
-        } else {
-            long daysBetween = ChronoUnit.DAYS.between(lastTraining, now);
-            if (daysBetween <= 1) {
-                stats.setStreak(stats.getStreak() + 1);
-            } else {
-                stats.setStreak(1);
-            }
-        }
-        
-        stats.setLastTrainingDate(now);
-        child.setStats(stats);
-        childRepository.save(child);
     }
 
-    public Map<String, Object> getChildStats(String childId) {
+    public Revisioned<Map<String, Object>> getChildStats(String childId) {
         Child child = childRepository.findById(childId)
                 .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
 
@@ -129,51 +180,33 @@ public class TrainingService {
         result.put("streak", stats.getStreak());
         result.put("lastTrainingDate", stats.getLastTrainingDate());
 
-        return result;
+        return new Revisioned<>(result, ETags.of(child.getId(), child.getVersion()));
     }
 
     public List<Map<String, Object>> getFailedWords(String childId, String listId, int limit) {
-        List<TrainingSession> sessions;
-        
-        if (listId != null && !listId.isBlank()) {
-            sessions = sessionRepository.findByChildIdAndListId(childId, listId);
-        } else {
-            sessions = sessionRepository.findByChildId(childId);
+        if (limit <= 0) {
+            return List.of();
         }
 
-        Map<String, Integer> errorCounts = new HashMap<>();
-        
-        for (TrainingSession session : sessions) {
-            for (TrainingSession.Result result : session.getResults()) {
-                if (!Boolean.TRUE.equals(result.getCorrect())) {
-                    errorCounts.merge(result.getWord(), 1, Integer::sum);
-                }
-            }
-        }
+        List<WordErrorCount> failedWords = failedWordsTime.record(() -> findTopFailedWords(childId, listId, limit));
 
-        return errorCounts.entrySet().stream()
-                .sorted((a, b) -> b.getValue().compareTo(a.getValue()))
-                .limit(limit)
-                .map(e -> {
+        return failedWords.stream()
+                .map(w -> {
                     Map<String, Object> item = new HashMap<>();
-                    item.put("word", e.getKey());
-                    item.put("count", e.getValue());
+                    item.put("word", w.word());
+                    item.put("count", w.count());
                     return item;
                 })
                 .toList();
     }
 
-    private void validateAccess(String childId, String requesterId, String requesterRole) {
-        if ("child".equals(requesterRole)) {
-            if (!childId.equals(requesterId)) {
-                throw new UnauthorizedException("Accès non autorisé");
-            }
-        } else if ("parent".equals(requesterRole)) {
-            Child child = childRepository.findById(childId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
-            if (!child.getParentId().equals(requesterId)) {
-                throw new UnauthorizedException("Accès non autorisé");
-            }
+    private List<WordErrorCount> findTopFailedWords(String childId, String listId, int limit) {
+        if (aggregateFailedWords) {
+            return sessionRepository.findTopFailedWords(childId, listId, limit);
+        }
+        if (listId != null && !listId.isBlank()) {
+            return FailedWordCounter.topFailedWords(sessionRepository.findByChildIdAndListId(childId, listId), limit);
         }
+        return FailedWordCounter.topFailedWords(sessionRepository.findByChildId(childId), limit);
     }
 }
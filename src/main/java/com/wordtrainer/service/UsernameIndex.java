@@ -0,0 +1,158 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.model.Child;
+import com.wordtrainer.repository.ChildRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+@Component
+public class UsernameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameIndex.class);
+
+    private final ChildRepository childRepository;
+    private final int expectedUsernames;
+    private final double falsePositiveRate;
+
+    private final Set<String> usernames = ConcurrentHashMap.newKeySet();
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean ready;
+
+    public UsernameIndex(ChildRepository childRepository,
+                         @Value("${usernames.index.expected-usernames:100000}") int expectedUsernames,
+                         @Value("${usernames.index.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.childRepository = childRepository;
+        this.expectedUsernames = expectedUsernames;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedUsernames, falsePositiveRate);
+    }
+
+    public static String normalize(String username) {
+        return username.toLowerCase().trim();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        try (Stream<Child> children = childRepository.streamAllUsernames()) {
+            children.map(Child::getUsername)
+                    .filter(username -> username != null)
+                    .forEach(this::add);
+            ready = true;
+            log.info("Username index warmed with {} usernames in {} ms",
+                    usernames.size(), System.currentTimeMillis() - start);
+        } catch (Exception ex) {
+            log.warn("Could not warm username index, falling back to database lookups: {}", ex.getMessage());
+        }
+    }
+
+    public boolean isTaken(String username) {
+        String normalized = normalize(username);
+        if (!ready) {
+            return childRepository.existsByUsername(normalized);
+        }
+        if (!bloomFilter.mightContain(normalized)) {
+            return false;
+        }
+        if (usernames.contains(normalized)) {
+            return true;
+        }
+        // Bloom false positive, or a username released since the filter was built.
+        return childRepository.existsByUsername(normalized);
+    }
+
+    public void add(String username) {
+        String normalized = normalize(username);
+        if (usernames.add(normalized)) {
+            bloomFilter.put(normalized);
+            if (usernames.size() > bloomFilter.capacity()) {
+                rebuildBloomFilter();
+            }
+        }
+    }
+
+    public void remove(String username) {
+        usernames.remove(normalize(username));
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        if (usernames.size() <= bloomFilter.capacity()) return;
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedUsernames, usernames.size() * 2), falsePositiveRate);
+        usernames.forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        // Names added while copying may have missed the new filter.
+        usernames.forEach(rebuilt::put);
+        log.info("Username bloom filter resized for {} usernames", rebuilt.capacity());
+    }
+
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+        private final int capacity;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            long size = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+            this.capacity = capacity;
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        void put(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) break;
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
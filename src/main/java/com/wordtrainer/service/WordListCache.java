@@ -0,0 +1,113 @@
+package com.wordtrainer.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.repository.WordListRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches word lists by id and by child. Cached lists are frozen copies (immutable word list) and every read hands
+ * out its own shallow copy, so callers may modify what they get without touching the cache or each other.
+ * <p>
+ * Lists fetched in bulk are only cached when no eviction ran since the fetch started: a load racing a save would
+ * otherwise put the pre-update list back right after {@link #evict} removed it.
+ */
+@Component
+public class WordListCache {
+
+    private final WordListRepository listRepository;
+    private final AsyncCache<String, WordList> byId;
+    private final AsyncCache<String, List<WordList>> byChildId;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public WordListCache(WordListRepository listRepository, MeterRegistry meterRegistry,
+                         @Value("${cache.word-lists.max-size:10000}") long maxSize,
+                         @Value("${cache.word-lists.ttl:5m}") Duration ttl) {
+        this.listRepository = listRepository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.byChildId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId.synchronous(), "wordlists.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byChildId.synchronous(), "wordlists.by-child");
+    }
+
+    public Optional<WordList> get(String listId) {
+        return Optional.ofNullable(CacheLoads.get(byId, listId,
+                        id -> listRepository.findById(id).map(WordListCache::freeze).orElse(null)))
+                .map(WordListCache::copy);
+    }
+
+    public Map<String, WordList> getAll(Collection<String> listIds) {
+        Map<String, WordList> lists = new HashMap<>();
+        byId.synchronous().getAllPresent(listIds).forEach((id, list) -> lists.put(id, copy(list)));
+        List<String> missing = listIds.stream().filter(id -> !lists.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            long stamp = evictions.get();
+            listRepository.findAllById(missing).forEach(list -> {
+                WordList frozen = freeze(list);
+                cacheUnlessEvicted(frozen, stamp);
+                lists.put(frozen.getId(), copy(frozen));
+            });
+        }
+        return lists;
+    }
+
+    public List<WordList> getByChildId(String childId) {
+        // An invalidate of childId during this load drops it before it is cached, so only the by-id fill needs guarding.
+        return CacheLoads.get(byChildId, childId, id -> {
+            long stamp = evictions.get();
+            List<WordList> lists = listRepository.findByChildId(id).stream().map(WordListCache::freeze).toList();
+            lists.forEach(list -> cacheUnlessEvicted(list, stamp));
+            return lists;
+        }).stream().map(WordListCache::copy).toList();
+    }
+
+    public void evict(WordList list) {
+        evictions.incrementAndGet();
+        byId.synchronous().invalidate(list.getId());
+        byChildId.synchronous().invalidate(list.getChildId());
+    }
+
+    public void evictChild(String childId) {
+        evictions.incrementAndGet();
+        byChildId.synchronous().invalidate(childId);
+        byId.synchronous().asMap().values().removeIf(list -> childId.equals(list.getChildId()));
+    }
+
+    // The stamp is compared inside compute, so an eviction either runs first (nothing is cached) or removes the entry.
+    private void cacheUnlessEvicted(WordList list, long stamp) {
+        byId.asMap().compute(list.getId(),
+                (id, current) -> evictions.get() == stamp ? CompletableFuture.completedFuture(list) : current);
+    }
+
+    private static WordList freeze(WordList list) {
+        return list.toBuilder()
+                .words(list.getWords() != null ? List.copyOf(list.getWords()) : List.of())
+                .build();
+    }
+
+    private static WordList copy(WordList list) {
+        return list.toBuilder().build();
+    }
+}
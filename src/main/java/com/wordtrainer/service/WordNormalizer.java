@@ -0,0 +1,42 @@
+package com.wordtrainer.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class WordNormalizer {
+
+    // Letters (with combining accents), apostrophes, hyphens and spaces, so dictation words and short expressions pass.
+    private static final Pattern VALID_WORD = Pattern.compile("[\\p{L}\\p{M}' -]+");
+
+    private WordNormalizer() {
+    }
+
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String word = raw.trim().toLowerCase();
+        return word.isBlank() ? null : word;
+    }
+
+    /**
+     * Whether a normalized word only holds characters a dictation can use; applies to every way words enter a list.
+     */
+    public static boolean isValid(String word) {
+        return VALID_WORD.matcher(word).matches();
+    }
+
+    public static List<String> clean(Collection<String> rawWords) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String raw : rawWords) {
+            String word = normalize(raw);
+            if (word != null) {
+                words.add(word);
+            }
+        }
+        return List.copyOf(words);
+    }
+}
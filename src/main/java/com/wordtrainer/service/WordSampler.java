@@ -0,0 +1,93 @@
+package com.wordtrainer.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+public final class WordSampler {
+
+    private final List<String> words;
+    private final Map<String, Integer> positions;
+    private final int[] attempts;
+    private final int[] errors;
+    private final AliasTable table;
+
+    private WordSampler(List<String> words, Map<String, Integer> positions, int[] attempts, int[] errors) {
+        this.words = words;
+        this.positions = positions;
+        this.attempts = attempts;
+        this.errors = errors;
+        this.table = words.isEmpty() ? null : new AliasTable(weights(attempts, errors));
+    }
+
+    public static WordSampler of(List<String> words, Map<String, int[]> attemptsAndErrors) {
+        Map<String, Integer> positions = new HashMap<>(words.size() * 2);
+        int[] attempts = new int[words.size()];
+        int[] errors = new int[words.size()];
+        for (int i = 0; i < words.size(); i++) {
+            positions.put(words.get(i), i);
+            int[] counts = attemptsAndErrors.get(words.get(i));
+            if (counts != null) {
+                attempts[i] = counts[0];
+                errors[i] = counts[1];
+            }
+        }
+        return new WordSampler(List.copyOf(words), Map.copyOf(positions), attempts, errors);
+    }
+
+    public WordSampler withResults(Map<String, int[]> attemptsAndErrors) {
+        int[] newAttempts = attempts.clone();
+        int[] newErrors = errors.clone();
+        boolean changed = false;
+        for (Map.Entry<String, int[]> entry : attemptsAndErrors.entrySet()) {
+            Integer position = positions.get(entry.getKey());
+            if (position != null) {
+                newAttempts[position] += entry.getValue()[0];
+                newErrors[position] += entry.getValue()[1];
+                changed = true;
+            }
+        }
+        return changed ? new WordSampler(words, positions, newAttempts, newErrors) : this;
+    }
+
+    public List<String> sample(int count, RandomGenerator random) {
+        if (count >= words.size()) {
+            List<String> all = new ArrayList<>(words);
+            Collections.shuffle(all, random);
+            return all;
+        }
+
+        List<String> picked = new ArrayList<>(count);
+        BitSet taken = new BitSet(words.size());
+        int maxDraws = count * 20;
+        for (int draw = 0; draw < maxDraws && picked.size() < count; draw++) {
+            int index = table.sample(random);
+            if (!taken.get(index)) {
+                taken.set(index);
+                picked.add(words.get(index));
+            }
+        }
+        // Heavily skewed weights can starve the remaining slots; top them up uniformly.
+        for (int index = taken.nextClearBit(0); picked.size() < count; index = taken.nextClearBit(index + 1)) {
+            picked.add(words.get(index));
+        }
+        return picked;
+    }
+
+    public boolean isEmpty() {
+        return words.isEmpty();
+    }
+
+    // Smoothed error rate, so unseen words (1/2) rank between mastered and difficult ones.
+    private static double[] weights(int[] attempts, int[] errors) {
+        double[] weights = new double[attempts.length];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (errors[i] + 1.0) / (attempts[i] + 2.0);
+        }
+        return weights;
+    }
+}
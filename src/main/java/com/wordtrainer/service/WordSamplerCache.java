@@ -0,0 +1,82 @@
+package com.wordtrainer.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.model.WordStat;
+import com.wordtrainer.repository.WordStatRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class WordSamplerCache {
+
+    private final WordStatRepository wordStatRepository;
+    private final AsyncCache<SamplerKey, WordSampler> samplers;
+
+    public WordSamplerCache(WordStatRepository wordStatRepository, MeterRegistry meterRegistry,
+                            @Value("${cache.word-samplers.max-size:10000}") long maxSize,
+                            @Value("${cache.word-samplers.ttl:30m}") Duration ttl) {
+        this.wordStatRepository = wordStatRepository;
+        this.samplers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, samplers.synchronous(), "word-samplers");
+    }
+
+    public WordSampler get(WordList list) {
+        return CacheLoads.get(samplers, new SamplerKey(list.getChildId(), list.getId()), key -> load(key, list));
+    }
+
+    public void recordSessions(String childId, List<TrainingSession> sessions) {
+        Map<String, Map<String, int[]>> tallies = new HashMap<>();
+        for (TrainingSession session : sessions) {
+            Map<String, int[]> words = tallies.computeIfAbsent(session.getListId(), id -> new HashMap<>());
+            for (TrainingSession.Result result : session.getResults()) {
+                String word = WordNormalizer.normalize(result.getWord());
+                if (word == null) continue;
+                int[] counts = words.computeIfAbsent(word, w -> new int[2]);
+                counts[0]++;
+                if (!Boolean.TRUE.equals(result.getCorrect())) counts[1]++;
+            }
+        }
+
+        // A sampler still loading may have read the stats before these sessions were saved: drop it, the next read reloads.
+        tallies.forEach((listId, words) -> samplers.asMap().computeIfPresent(new SamplerKey(childId, listId),
+                (key, sampler) -> sampler.isDone() ? sampler.thenApply(loaded -> loaded.withResults(words)) : null));
+    }
+
+    public void evict(WordList list) {
+        samplers.synchronous().invalidate(new SamplerKey(list.getChildId(), list.getId()));
+    }
+
+    public void evictChild(String childId) {
+        samplers.asMap().keySet().removeIf(key -> childId.equals(key.childId()));
+    }
+
+    private WordSampler load(SamplerKey key, WordList list) {
+        Map<String, int[]> counts = new HashMap<>();
+        for (WordStat stat : wordStatRepository.findByChildIdAndListId(key.childId(), key.listId())) {
+            String word = WordNormalizer.normalize(stat.getWord());
+            if (word == null) continue;
+            int[] wordCounts = counts.computeIfAbsent(word, w -> new int[2]);
+            wordCounts[0] += stat.getAttempts() != null ? stat.getAttempts() : 0;
+            wordCounts[1] += stat.getErrors() != null ? stat.getErrors() : 0;
+        }
+        return WordSampler.of(list.getWords(), counts);
+    }
+
+    private record SamplerKey(String childId, String listId) {
+    }
+}
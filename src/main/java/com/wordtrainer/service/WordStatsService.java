@@ -0,0 +1,118 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.exception.ResourceNotFoundException;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.model.WordStat;
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.WordListRepository;
+import com.wordtrainer.repository.WordStatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class WordStatsService {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final WordStatRepository wordStatRepository;
+    private final WordListRepository listRepository;
+    private final WordListCache listCache;
+    private final ChildRepository childRepository;
+    private final WordSamplerCache samplerCache;
+    private final List<Duration> boxIntervals;
+
+    public WordStatsService(WordStatRepository wordStatRepository, WordListRepository listRepository, WordListCache listCache,
+                            ChildRepository childRepository, WordSamplerCache samplerCache,
+                            @Value("${training.spaced-repetition.box-intervals:0s,1d,3d,7d,14d,30d}") List<Duration> boxIntervals) {
+        if (boxIntervals.isEmpty()) {
+            throw new IllegalArgumentException("training.spaced-repetition.box-intervals must not be empty");
+        }
+        this.wordStatRepository = wordStatRepository;
+        this.listRepository = listRepository;
+        this.listCache = listCache;
+        this.childRepository = childRepository;
+        this.samplerCache = samplerCache;
+        this.boxIntervals = List.copyOf(boxIntervals);
+    }
+
+    public void recordSessions(String childId, List<TrainingSession> sessions) {
+        wordStatRepository.recordSessions(childId, sessions, Instant.now(), boxIntervals);
+        samplerCache.recordSessions(childId, sessions);
+    }
+
+    public List<DueWord> getDueWords(String childId, String listId, Integer limit) {
+        WordList list = listCache.get(listId)
+                .filter(l -> childId.equals(l.getChildId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Liste", listId));
+
+        int size = limit != null ? limit : childRepository.findById(childId)
+                .map(child -> child.getSettings().getWordsPerSession())
+                .orElseThrow(() -> new ResourceNotFoundException("Enfant", childId));
+        size = Math.max(1, Math.min(size, MAX_LIMIT));
+
+        if (!Boolean.TRUE.equals(list.getWordsScheduled())) {
+            // Lists created before word_stats rows were seeded on write get them on first use.
+            scheduleWords(list);
+        }
+
+        // Both reads are bounded walks of child_list_due: words past their due time first, then
+        // words never answered (no dueAt), never the whole list.
+        List<DueWord> dueWords = new ArrayList<>(size);
+        wordStatRepository.findByChildIdAndListIdAndDueAtLessThanEqualOrderByDueAtAsc(
+                        childId, listId, Instant.now(), PageRequest.of(0, size))
+                .forEach(stat -> dueWords.add(new DueWord(stat.getWord(), stat.getBox(), stat.getDueAt())));
+
+        if (dueWords.size() < size) {
+            wordStatRepository.findByChildIdAndListIdAndDueAtIsNull(childId, listId, PageRequest.of(0, size - dueWords.size()))
+                    .forEach(stat -> dueWords.add(new DueWord(stat.getWord(), null, null)));
+        }
+
+        return dueWords;
+    }
+
+    /**
+     * Gives every word of a saved {@code list} a word_stats row so it can be found through child_list_due.
+     * The list is only flagged once the rows exist, so an interrupted call is redone on the next read.
+     */
+    public void scheduleWords(WordList list) {
+        wordStatRepository.seedWords(list.getChildId(), list.getId(), list.getWords());
+        listRepository.markWordsScheduled(list.getId());
+        list.setWordsScheduled(true);
+        listCache.evict(list);
+    }
+
+    /**
+     * Drops the rows of words no longer in {@code list}, so due-word reads don't have to filter them out.
+     */
+    public void unscheduleRemovedWords(WordList list, List<String> previousWords) {
+        Set<String> current = new HashSet<>(list.getWords());
+        List<String> removed = previousWords.stream().filter(word -> !current.contains(word)).toList();
+        if (!removed.isEmpty()) {
+            wordStatRepository.deleteByChildIdAndListIdAndWordIn(list.getChildId(), list.getId(), removed);
+        }
+    }
+
+    public List<WordStat> getWordStats(String childId, String listId, int limit) {
+        PageRequest pageable = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+        if (listId != null && !listId.isBlank()) {
+            return wordStatRepository.findByChildIdAndListIdOrderByErrorsDesc(childId, listId, pageable);
+        }
+        return wordStatRepository.findByChildIdOrderByErrorsDesc(childId, pageable);
+    }
+
+    public Optional<WordStat> getWordStat(String childId, String listId, String word) {
+        return wordStatRepository.findByChildIdAndListIdAndWord(childId, listId, word)
+                .filter(stat -> stat.getAttempts() != null && stat.getAttempts() > 0);
+    }
+}
@@ -0,0 +1,152 @@
+package com.wordtrainer;
+
+import com.mongodb.client.MongoClient;
+import com.wordtrainer.monitoring.SlowQueryListener;
+import com.wordtrainer.monitoring.SlowQueryLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the commands repository methods send to Mongo, through the production {@link SlowQueryListener} at a zero
+ * threshold, so tests can explain the exact command a method issued instead of a hand-written copy of it.
+ * Import {@link Config} next to the test slice.
+ */
+public class CommandCapture extends SlowQueryLog {
+
+    public record Captured(String database, String commandName, BsonDocument command) {
+    }
+
+    private record Recorded(Thread thread, Captured command) {
+    }
+
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final List<Recorded> recorded = new CopyOnWriteArrayList<>();
+
+    CommandCapture(ObjectProvider<MongoClient> mongoClient) {
+        super(mongoClient, new SimpleMeterRegistry(), 1, false);
+        this.mongoClient = mongoClient;
+    }
+
+    @Override
+    public void record(String database, String commandName, BsonDocument command, String repositoryMethod,
+                       Duration duration, boolean failed) {
+        if (!failed) {
+            recorded.add(new Recorded(Thread.currentThread(), new Captured(database, commandName, command)));
+        }
+    }
+
+    /**
+     * The explainable commands the current thread sent while running {@code action}; commands from background work
+     * such as the index migrations are left out.
+     */
+    public List<Captured> during(Runnable action) {
+        recorded.clear();
+        action.run();
+        Thread current = Thread.currentThread();
+        return recorded.stream()
+                .filter(entry -> entry.thread() == current)
+                .map(Recorded::command)
+                .toList();
+    }
+
+    /**
+     * Explains a captured command; explain never applies the writes of an update.
+     */
+    public BsonDocument explain(Captured captured, String verbosity) {
+        return mongoClient.getObject().getDatabase(captured.database()).runCommand(
+                new BsonDocument("explain", SlowQueryLog.explainable(captured.command(), captured.commandName()))
+                        .append("verbosity", new BsonString(verbosity)),
+                BsonDocument.class);
+    }
+
+    /**
+     * Names of the indexes scanned by the winning plans of an explain result, including the initial cursor of an
+     * aggregation; rejected plans are ignored.
+     */
+    public static List<String> winningIndexes(BsonDocument explainResult) {
+        List<String> indexes = new ArrayList<>();
+        collectIndexes(explainResult, false, indexes);
+        return indexes;
+    }
+
+    /**
+     * {@code totalDocsExamined} of the first {@code executionStats} in an explain result run at executionStats
+     * verbosity: the whole command for a find, the initial cursor for an aggregation.
+     */
+    public static long docsExamined(BsonDocument explainResult) {
+        BsonDocument stats = firstDocument(explainResult, "executionStats");
+        if (stats == null || !stats.containsKey("totalDocsExamined")) {
+            throw new IllegalArgumentException("No executionStats in " + explainResult.toJson());
+        }
+        return stats.getNumber("totalDocsExamined").longValue();
+    }
+
+    private static void collectIndexes(BsonValue value, boolean winning, List<String> indexes) {
+        if (value.isArray()) {
+            value.asArray().forEach(element -> collectIndexes(element, winning, indexes));
+            return;
+        }
+        if (!value.isDocument()) {
+            return;
+        }
+        BsonDocument document = value.asDocument();
+        if (winning && document.isString("stage") && document.getString("stage").getValue().equals("IXSCAN")
+                && document.isString("indexName")) {
+            indexes.add(document.getString("indexName").getValue());
+        }
+        document.forEach((key, child) -> {
+            if (!key.equals("rejectedPlans")) {
+                collectIndexes(child, winning || key.equals("winningPlan"), indexes);
+            }
+        });
+    }
+
+    private static BsonDocument firstDocument(BsonValue value, String name) {
+        if (value.isArray()) {
+            for (BsonValue element : value.asArray()) {
+                BsonDocument found = firstDocument(element, name);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (value.isDocument()) {
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (entry.getKey().equals(name) && entry.getValue().isDocument()) {
+                    return entry.getValue().asDocument();
+                }
+                BsonDocument found = firstDocument(entry.getValue(), name);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Config {
+
+        @Bean
+        CommandCapture commandCapture(ObjectProvider<MongoClient> mongoClient) {
+            return new CommandCapture(mongoClient);
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCaptureListener(CommandCapture commandCapture) {
+            SlowQueryListener listener = new SlowQueryListener(commandCapture, Duration.ZERO);
+            return settings -> settings.addCommandListener(listener);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.wordtrainer;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class for tests that need a real MongoDB: one {@code mongo:7} container shared by the test class and wired
+ * in through {@code @ServiceConnection}. Subclasses are skipped where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MongoIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    protected static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7");
+}
@@ -0,0 +1,163 @@
+package com.wordtrainer.repository;
+
+import com.wordtrainer.CommandCapture;
+import com.wordtrainer.MongoIntegrationTest;
+import com.wordtrainer.config.MongoConfig;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.repository.migration.IndexMigrationRunner;
+import com.wordtrainer.service.FailedWordCounter;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Explains the real {@link TrainingSessionRepositoryImpl#findTopFailedWords} pipeline for one child while the
+ * collection grows around it: the initial {@code $match} must be served by a childId-prefixed index and examine
+ * exactly that child's sessions, whatever other children have recorded. Timings are logged, not asserted.
+ */
+@DataMongoTest
+@Import({MongoConfig.class, IndexMigrationRunner.class, CommandCapture.Config.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FailedWordsAggregationTest extends MongoIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FailedWordsAggregationTest.class);
+
+    private static final String CHILD_ID = "measured-child";
+    private static final String LIST_ID = "list-" + CHILD_ID;
+    // Either index isolates one child's sessions when no list is given; the planner may pick either
+    private static final Set<String> CHILD_INDEXES = Set.of("child_created", "child_list_created");
+    private static final int CHILD_SESSIONS = 200;
+    private static final int[] COLLECTION_SIZES = {1_000, 10_000, 50_000};
+    private static final int RESULTS_PER_SESSION = 20;
+    private static final int WARMUP_CALLS = 20;
+    private static final int MEASURED_CALLS = 50;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TrainingSessionRepository sessionRepository;
+
+    @Autowired
+    private IndexMigrationRunner migrationRunner;
+
+    @Autowired
+    private CommandCapture commandCapture;
+
+    private final Random random = new Random(42);
+
+    private List<TrainingSession> childHistory;
+
+    @BeforeAll
+    void migrateAndSeedChild() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (migrationRunner.state() != IndexMigrationRunner.State.COMPLETED) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Index migrations did not complete: " + migrationRunner.error());
+            }
+            Thread.sleep(100);
+        }
+
+        childHistory = new ArrayList<>(CHILD_SESSIONS);
+        for (int i = 0; i < CHILD_SESSIONS; i++) {
+            childHistory.add(session(CHILD_ID));
+        }
+        mongoTemplate.insertAll(childHistory);
+    }
+
+    @Test
+    void examinedSessionsDoNotGrowWithOtherChildrenSessions() {
+        List<WordErrorCount> expected = FailedWordCounter.topFailedWords(childHistory, 10);
+        Map<Integer, Double> medianMillis = new LinkedHashMap<>();
+
+        for (int size : COLLECTION_SIZES) {
+            fillCollectionTo(size);
+            assertEquals(expected, sessionRepository.findTopFailedWords(CHILD_ID, null, 10));
+            assertEquals(expected, sessionRepository.findTopFailedWords(CHILD_ID, LIST_ID, 10));
+
+            BsonDocument allLists = explainTopFailedWords(null);
+            List<String> indexes = CommandCapture.winningIndexes(allLists);
+            assertTrue(indexes.size() == 1 && CHILD_INDEXES.contains(indexes.get(0)),
+                    () -> "Unexpected plan at " + size + " sessions: " + indexes);
+            assertEquals(CHILD_SESSIONS, CommandCapture.docsExamined(allLists), "sessions examined at " + size);
+
+            BsonDocument oneList = explainTopFailedWords(LIST_ID);
+            assertEquals(List.of("child_list_created"), CommandCapture.winningIndexes(oneList),
+                    () -> "Unexpected plan at " + size + " sessions");
+            assertEquals(CHILD_SESSIONS, CommandCapture.docsExamined(oneList), "sessions examined at " + size);
+
+            medianMillis.put(size, medianMillis());
+        }
+        log.info("findTopFailedWords median latency by collection size (child history {} sessions): {}",
+                CHILD_SESSIONS, medianMillis);
+    }
+
+    private BsonDocument explainTopFailedWords(String listId) {
+        List<CommandCapture.Captured> commands = commandCapture.during(
+                () -> sessionRepository.findTopFailedWords(CHILD_ID, listId, 10));
+        assertEquals(List.of("aggregate"), commands.stream().map(CommandCapture.Captured::commandName).toList());
+        return commandCapture.explain(commands.get(0), "executionStats");
+    }
+
+    private void fillCollectionTo(int size) {
+        long missing = size - mongoTemplate.count(new Query(), TrainingSession.class);
+        List<TrainingSession> batch = new ArrayList<>(1_000);
+        for (long i = 0; i < missing; i++) {
+            batch.add(session("other-child-" + random.nextInt(size / 20)));
+            if (batch.size() == 1_000) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insertAll(batch);
+        }
+    }
+
+    private double medianMillis() {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sessionRepository.findTopFailedWords(CHILD_ID, null, 10);
+        }
+        long[] nanos = new long[MEASURED_CALLS];
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            long start = System.nanoTime();
+            sessionRepository.findTopFailedWords(CHILD_ID, null, 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[MEASURED_CALLS / 2] / 1_000_000.0;
+    }
+
+    private TrainingSession session(String childId) {
+        List<TrainingSession.Result> results = new ArrayList<>(RESULTS_PER_SESSION);
+        for (int i = 0; i < RESULTS_PER_SESSION; i++) {
+            String word = "mot" + random.nextInt(300);
+            boolean correct = random.nextInt(4) != 0;
+            results.add(TrainingSession.Result.builder().word(word).userAnswer(correct ? word : "").correct(correct).build());
+        }
+        return TrainingSession.builder()
+                .childId(childId).listId("list-" + childId).listName("Liste")
+                .trainingType("dictee").totalWords(results.size()).durationSeconds(60)
+                .results(results).build();
+    }
+}
@@ -0,0 +1,312 @@
+package com.wordtrainer.repository.migration;
+
+import com.wordtrainer.CommandCapture;
+import com.wordtrainer.MongoIntegrationTest;
+import com.wordtrainer.config.MongoConfig;
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.DeletionJob;
+import com.wordtrainer.model.Parent;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.DailyProgressRepository;
+import com.wordtrainer.repository.DeletionJobRepository;
+import com.wordtrainer.repository.ParentRepository;
+import com.wordtrainer.repository.QueryPlans;
+import com.wordtrainer.repository.TrainingSessionRepository;
+import com.wordtrainer.repository.WordListRepository;
+import com.wordtrainer.repository.WordStatRepository;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Calls every repository method against a seeded database carrying exactly the indexes of {@link IndexMigrations},
+ * captures the commands each call sends through {@link CommandCapture}, and explains every one of them at
+ * executionStats: a winning plan must read an index, never scan a collection or sort documents in memory, and
+ * each {@code $lookup} must reach the joined collection through an index. Methods that rewrite whole collections
+ * on purpose (data migrations, the username cache warm-up) are left out. Writes go to a parent kept for them.
+ */
+@DataMongoTest
+@Import({MongoConfig.class, IndexMigrationRunner.class, CommandCapture.Config.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest extends MongoIntegrationTest {
+
+    private static final List<Duration> BOX_INTERVALS = List.of(
+            Duration.ZERO, Duration.ofDays(1), Duration.ofDays(3), Duration.ofDays(7));
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private IndexMigrationRunner migrationRunner;
+
+    @Autowired
+    private CommandCapture commandCapture;
+
+    @Autowired
+    private ParentRepository parentRepository;
+
+    @Autowired
+    private ChildRepository childRepository;
+
+    @Autowired
+    private WordListRepository listRepository;
+
+    @Autowired
+    private TrainingSessionRepository sessionRepository;
+
+    @Autowired
+    private WordStatRepository wordStatRepository;
+
+    @Autowired
+    private DailyProgressRepository progressRepository;
+
+    @Autowired
+    private DeletionJobRepository deletionJobRepository;
+
+    private Parent parent;
+    private Child child;
+    private WordList list;
+    private List<TrainingSession> sessions;
+    private DeletionJob job;
+
+    private Parent leavingParent;
+    private Child leavingChild;
+    private WordList leavingList;
+
+    @BeforeAll
+    void migrateAndSeed() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (migrationRunner.state() != IndexMigrationRunner.State.COMPLETED) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Index migrations did not complete: " + migrationRunner.error());
+            }
+            Thread.sleep(100);
+        }
+
+        Random random = new Random(42);
+        Instant now = Instant.now();
+        for (int p = 0; p < 5; p++) {
+            Parent seededParent = mongoTemplate.insert(Parent.builder()
+                    .email("parent" + p + "@example.org").firstName("P" + p).build());
+            for (int c = 0; c < 5; c++) {
+                Child seededChild = mongoTemplate.insert(Child.builder()
+                        .parentId(seededParent.getId())
+                        .firstName("C" + c)
+                        .username("child-" + p + "-" + c)
+                        .build());
+                List<WordList> lists = new ArrayList<>();
+                List<TrainingSession> childSessions = new ArrayList<>();
+                for (int l = 0; l < 2; l++) {
+                    List<String> words = IntStream.range(0, 20).mapToObj(w -> "mot" + w).toList();
+                    WordList seededList = mongoTemplate.insert(WordList.builder()
+                            .childId(seededChild.getId()).name("Liste " + l).words(words).wordsScheduled(true).build());
+                    lists.add(seededList);
+                    wordStatRepository.seedWords(seededChild.getId(), seededList.getId(), words);
+                    for (int s = 0; s < 20; s++) {
+                        List<TrainingSession.Result> results = words.subList(0, 10).stream()
+                                .map(word -> TrainingSession.Result.builder()
+                                        .word(word).userAnswer(word).correct(random.nextInt(4) > 0).build())
+                                .toList();
+                        childSessions.add(TrainingSession.builder()
+                                .childId(seededChild.getId()).listId(seededList.getId()).listName(seededList.getName())
+                                .trainingType("dictee").totalWords(results.size()).durationSeconds(60)
+                                .results(results).build());
+                    }
+                }
+                List<TrainingSession> saved = new ArrayList<>(mongoTemplate.insertAll(childSessions));
+                wordStatRepository.recordSessions(seededChild.getId(), saved, now, BOX_INTERVALS);
+                progressRepository.recordSessions(seededChild.getId(), saved, ZONE);
+                DeletionJob seededJob = mongoTemplate.insert(DeletionJob.builder()
+                        .type(DeletionJob.Type.LIST).targetId(saved.get(0).getListId()).childId(seededChild.getId())
+                        .status(c % 2 == 0 ? DeletionJob.Status.COMPLETED : DeletionJob.Status.PENDING).build());
+
+                if (p == 0 && c == 0) {
+                    parent = seededParent;
+                    child = seededChild;
+                    list = lists.get(0);
+                    sessions = saved;
+                    job = seededJob;
+                } else if (p == 4 && c == 0) {
+                    leavingParent = seededParent;
+                    leavingChild = seededChild;
+                    leavingList = lists.get(0);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("calls")
+    void everyCommandIsServedByAnIndex(String method, Runnable call) {
+        List<CommandCapture.Captured> commands = commandCapture.during(call);
+        assertFalse(commands.isEmpty(), () -> method + " sent no command");
+
+        for (CommandCapture.Captured command : commands) {
+            String sent = method + " (" + command.commandName() + " "
+                    + command.command().getString(command.commandName()).getValue() + ")";
+            BsonDocument explain = commandCapture.explain(command, "executionStats");
+            List<String> stages = QueryPlans.stages(explain);
+
+            assertFalse(QueryPlans.isEmpty(stages), () -> sent + " reached no seeded collection");
+            assertFalse(QueryPlans.isCollectionScan(stages), () -> sent + " scans the collection: " + stages);
+            assertFalse(QueryPlans.isInMemorySort(stages), () -> sent + " sorts in memory: " + stages);
+            assertTrue(stages.stream().anyMatch(QueryPlanTest::readsIndex), () -> sent + " uses no index: " + stages);
+            for (BsonDocument lookup : lookups(explain)) {
+                assertEquals(0, lookup.getNumber("collectionScans").longValue(),
+                        () -> sent + " scans the joined collection: " + lookup.toJson());
+                assertFalse(lookup.getArray("indexesUsed").isEmpty(),
+                        () -> sent + " joins without an index: " + lookup.toJson());
+            }
+        }
+    }
+
+    // Writes only touch the leaving parent's documents or fields no other call reads; chunked deletes come before
+    // the deletes that would leave them nothing to delete.
+    Stream<Arguments> calls() {
+        Instant now = Instant.now();
+        String today = LocalDate.now(ZONE).toString();
+        PageRequest firstPage = PageRequest.of(0, 10);
+        return Stream.of(
+                call("ParentRepository.findByEmail", () -> parentRepository.findByEmail(parent.getEmail())),
+                call("ParentRepository.existsByEmail", () -> parentRepository.existsByEmail(parent.getEmail())),
+                call("ParentRepository.existsByIdAndDeletedAtIsNull",
+                        () -> parentRepository.existsByIdAndDeletedAtIsNull(parent.getId())),
+                call("ParentRepository.markDeleted", () -> parentRepository.markDeleted(leavingParent.getId(), now)),
+
+                call("ChildRepository.findById", () -> childRepository.findById(child.getId())),
+                call("ChildRepository.findByParentId", () -> childRepository.findByParentId(parent.getId())),
+                call("ChildRepository.findByUsername", () -> childRepository.findByUsername(child.getUsername())),
+                call("ChildRepository.existsByUsername", () -> childRepository.existsByUsername(child.getUsername())),
+                call("ChildRepository.existsByIdAndDeletedAtIsNull",
+                        () -> childRepository.existsByIdAndDeletedAtIsNull(child.getId())),
+                call("ChildRepository.findIdsByParentId", () -> childRepository.findIdsByParentId(parent.getId())),
+                call("ChildRepository.findOverviewsByParentId",
+                        () -> childRepository.findOverviewsByParentId(parent.getId(), 5, 10)),
+                call("ChildRepository.recordTrainings",
+                        () -> childRepository.recordTrainings(child.getId(), 2, 20, 15, now)),
+                call("ChildRepository.updateSettings",
+                        () -> childRepository.updateSettings(child.getId(), child.getSettingsRevision(), new Child.Settings())),
+                call("ChildRepository.markDeletedByParentId",
+                        () -> childRepository.markDeletedByParentId(leavingParent.getId(), now)),
+                call("ChildRepository.deleteByParentId", () -> childRepository.deleteByParentId(leavingParent.getId())),
+
+                call("WordListRepository.findByChildId", () -> listRepository.findByChildId(child.getId())),
+                call("WordListRepository.countByChildId", () -> listRepository.countByChildId(child.getId())),
+                call("WordListRepository.markWordsScheduled", () -> listRepository.markWordsScheduled(list.getId())),
+                call("WordListRepository.deleteByChildId", () -> listRepository.deleteByChildId(leavingChild.getId())),
+
+                call("TrainingSessionRepository.findHistoryPage",
+                        () -> sessionRepository.findHistoryPage(child.getId(), null, null, null, 20)),
+                call("TrainingSessionRepository.findHistoryPage (list)",
+                        () -> sessionRepository.findHistoryPage(child.getId(), list.getId(), null, null, 20)),
+                call("TrainingSessionRepository.findHistoryPage (next page)",
+                        () -> sessionRepository.findHistoryPage(child.getId(), null,
+                                sessions.get(10).getCreatedAt(), sessions.get(10).getId(), 20)),
+                call("TrainingSessionRepository.streamHistory", () -> {
+                    try (Stream<TrainingSession> history = sessionRepository.streamHistory(child.getId(), list.getId())) {
+                        history.forEach(session -> { });
+                    }
+                }),
+                call("TrainingSessionRepository.findByChildId", () -> sessionRepository.findByChildId(child.getId())),
+                call("TrainingSessionRepository.findByChildIdAndListId",
+                        () -> sessionRepository.findByChildIdAndListId(child.getId(), list.getId())),
+                call("TrainingSessionRepository.findTopFailedWords",
+                        () -> sessionRepository.findTopFailedWords(child.getId(), null, 10)),
+                call("TrainingSessionRepository.findTopFailedWords (list)",
+                        () -> sessionRepository.findTopFailedWords(child.getId(), list.getId(), 10)),
+                call("TrainingSessionRepository.deleteChunkByListId",
+                        () -> sessionRepository.deleteChunkByListId(leavingList.getId(), 5)),
+                call("TrainingSessionRepository.deleteChunkByChildId",
+                        () -> sessionRepository.deleteChunkByChildId(leavingChild.getId(), 5)),
+                call("TrainingSessionRepository.deleteByListId", () -> sessionRepository.deleteByListId(leavingList.getId())),
+                call("TrainingSessionRepository.deleteByChildId", () -> sessionRepository.deleteByChildId(leavingChild.getId())),
+
+                call("WordStatRepository.findByChildIdOrderByErrorsDesc",
+                        () -> wordStatRepository.findByChildIdOrderByErrorsDesc(child.getId(), firstPage)),
+                call("WordStatRepository.findByChildIdAndListIdOrderByErrorsDesc",
+                        () -> wordStatRepository.findByChildIdAndListIdOrderByErrorsDesc(child.getId(), list.getId(), firstPage)),
+                call("WordStatRepository.findByChildIdAndListIdAndDueAtLessThanEqualOrderByDueAtAsc",
+                        () -> wordStatRepository.findByChildIdAndListIdAndDueAtLessThanEqualOrderByDueAtAsc(
+                                child.getId(), list.getId(), now, firstPage)),
+                call("WordStatRepository.findByChildIdAndListIdAndDueAtIsNull",
+                        () -> wordStatRepository.findByChildIdAndListIdAndDueAtIsNull(child.getId(), list.getId(), firstPage)),
+                call("WordStatRepository.findByChildIdAndListId",
+                        () -> wordStatRepository.findByChildIdAndListId(child.getId(), list.getId())),
+                call("WordStatRepository.findByChildIdAndListIdAndWord",
+                        () -> wordStatRepository.findByChildIdAndListIdAndWord(child.getId(), list.getId(), "mot0")),
+                call("WordStatRepository.seedWords",
+                        () -> wordStatRepository.seedWords(child.getId(), list.getId(), List.of("mot0", "nouveau"))),
+                call("WordStatRepository.recordSessions",
+                        () -> wordStatRepository.recordSessions(child.getId(), sessions.subList(0, 2), now, BOX_INTERVALS)),
+                call("WordStatRepository.deleteByChildIdAndListIdAndWordIn",
+                        () -> wordStatRepository.deleteByChildIdAndListIdAndWordIn(
+                                leavingChild.getId(), leavingList.getId(), List.of("mot0", "mot1"))),
+                call("WordStatRepository.deleteByChildIdAndListId",
+                        () -> wordStatRepository.deleteByChildIdAndListId(leavingChild.getId(), leavingList.getId())),
+                call("WordStatRepository.deleteByChildId", () -> wordStatRepository.deleteByChildId(leavingChild.getId())),
+
+                call("DailyProgressRepository.findRange",
+                        () -> progressRepository.findRange(child.getId(), LocalDate.now(ZONE).minusDays(30).toString(), today)),
+                call("DailyProgressRepository.recordSessions",
+                        () -> progressRepository.recordSessions(child.getId(), sessions.subList(0, 2), ZONE)),
+                call("DailyProgressRepository.deleteByChildId", () -> progressRepository.deleteByChildId(leavingChild.getId())),
+
+                call("DeletionJobRepository.claimNext",
+                        () -> deletionJobRepository.claimNext(now, now.plus(Duration.ofMinutes(5)))),
+                call("DeletionJobRepository.recordProgress", () -> deletionJobRepository.recordProgress(
+                        job.getId(), "training_sessions", 5, now.plus(Duration.ofMinutes(5)))),
+                call("DeletionJobRepository.recordFailure",
+                        () -> deletionJobRepository.recordFailure(job.getId(), "timeout", now.plus(Duration.ofMinutes(1)))),
+                call("DeletionJobRepository.markFailed", () -> deletionJobRepository.markFailed(job.getId(), "timeout")),
+                call("DeletionJobRepository.markCompleted", () -> deletionJobRepository.markCompleted(job.getId(), now)));
+    }
+
+    private static Arguments call(String method, Runnable call) {
+        return Arguments.of(method, call);
+    }
+
+    private static boolean readsIndex(String stage) {
+        return stage.contains("IXSCAN") || stage.equals("IDHACK") || stage.equals("COUNT_SCAN")
+                || stage.startsWith("EXPRESS");
+    }
+
+    // executionStats of each $lookup stage of an aggregation, reporting how the joined collection was read
+    private static List<BsonDocument> lookups(BsonDocument explain) {
+        List<BsonDocument> lookups = new ArrayList<>();
+        if (explain.isArray("stages")) {
+            for (BsonValue stage : explain.getArray("stages")) {
+                if (stage.isDocument() && stage.asDocument().containsKey("$lookup")) {
+                    lookups.add(stage.asDocument());
+                }
+            }
+        }
+        return lookups;
+    }
+}
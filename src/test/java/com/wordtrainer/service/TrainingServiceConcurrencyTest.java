@@ -0,0 +1,143 @@
+package com.wordtrainer.service;
+
+import com.wordtrainer.MongoIntegrationTest;
+import com.wordtrainer.dto.request.SaveTrainingBatchRequest;
+import com.wordtrainer.dto.request.SaveTrainingRequest;
+import com.wordtrainer.model.Child;
+import com.wordtrainer.model.DailyProgress;
+import com.wordtrainer.model.Parent;
+import com.wordtrainer.model.TrainingSession;
+import com.wordtrainer.model.WordList;
+import com.wordtrainer.model.WordStat;
+import com.wordtrainer.repository.ChildRepository;
+import com.wordtrainer.repository.ParentRepository;
+import com.wordtrainer.repository.WordListRepository;
+import com.wordtrainer.repository.migration.IndexMigrationRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Many devices of one child submitting at once: every session must be counted exactly once in the child's stats,
+ * word stats and daily progress, whichever of the single and batch save paths it came through.
+ */
+@SpringBootTest
+class TrainingServiceConcurrencyTest extends MongoIntegrationTest {
+
+    private static final int SINGLE_SAVES = 300;
+    private static final int BATCH_SAVES = 100;
+    private static final int SESSIONS_PER_BATCH = 3;
+    private static final List<String> WORDS = List.of("chat", "chien", "maison", "arbre", "soleil");
+
+    @Autowired
+    private TrainingService trainingService;
+
+    @Autowired
+    private ParentRepository parentRepository;
+
+    @Autowired
+    private ChildRepository childRepository;
+
+    @Autowired
+    private WordListRepository listRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private IndexMigrationRunner migrationRunner;
+
+    // Concurrent upserts only stay one row per key once the unique indexes exist, as readiness guarantees in production.
+    @BeforeEach
+    void awaitIndexes() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (migrationRunner.state() != IndexMigrationRunner.State.COMPLETED) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Index migrations did not complete: " + migrationRunner.error());
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    void parallelSavesKeepEveryTotal() throws Exception {
+        Parent parent = parentRepository.save(Parent.builder().email("concurrency@example.org").firstName("P").build());
+        Child child = childRepository.save(Child.builder()
+                .parentId(parent.getId()).firstName("C").username("concurrency-child").build());
+        WordList list = listRepository.save(WordList.builder()
+                .childId(child.getId()).name("Liste").words(WORDS).build());
+        String childId = child.getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> saves = new ArrayList<>();
+        try {
+            for (int i = 0; i < SINGLE_SAVES; i++) {
+                saves.add(executor.submit(() -> {
+                    start.await();
+                    return trainingService.saveTraining(childId, childId, "child", session(list.getId()));
+                }));
+            }
+            for (int i = 0; i < BATCH_SAVES; i++) {
+                saves.add(executor.submit(() -> {
+                    start.await();
+                    List<SaveTrainingRequest> sessions = new ArrayList<>();
+                    for (int s = 0; s < SESSIONS_PER_BATCH; s++) {
+                        sessions.add(session(list.getId()));
+                    }
+                    return trainingService.saveTrainingBatch(childId, childId, "child", new SaveTrainingBatchRequest(sessions));
+                }));
+            }
+            start.countDown();
+            for (Future<?> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int sessions = SINGLE_SAVES + BATCH_SAVES * SESSIONS_PER_BATCH;
+        Child.Stats stats = childRepository.findById(childId).orElseThrow().getStats();
+        assertEquals(sessions, stats.getTotalTrainings());
+        assertEquals(sessions * WORDS.size(), stats.getTotalWords());
+        assertEquals(sessions * (WORDS.size() - 1), stats.getCorrectWords());
+        // Every save lands within the streak window, so each session extends it by one
+        assertEquals(sessions, stats.getStreak());
+
+        Query byChild = Query.query(Criteria.where("childId").is(childId));
+        assertEquals(sessions, mongoTemplate.count(byChild, TrainingSession.class));
+        List<WordStat> wordStats = mongoTemplate.find(byChild, WordStat.class);
+        assertEquals(WORDS.size(), wordStats.size());
+        for (WordStat stat : wordStats) {
+            assertEquals(sessions, stat.getAttempts(), stat.getWord());
+        }
+        int progressSessions = mongoTemplate.find(byChild, DailyProgress.class).stream()
+                .mapToInt(DailyProgress::getSessions)
+                .sum();
+        assertEquals(sessions, progressSessions);
+    }
+
+    // Every word once, the last one wrong.
+    private static SaveTrainingRequest session(String listId) {
+        List<SaveTrainingRequest.ResultItem> results = new ArrayList<>();
+        for (int i = 0; i < WORDS.size(); i++) {
+            boolean correct = i < WORDS.size() - 1;
+            results.add(new SaveTrainingRequest.ResultItem(WORDS.get(i), correct ? WORDS.get(i) : "?", correct));
+        }
+        return new SaveTrainingRequest(listId, "dictee", 30, results);
+    }
+}